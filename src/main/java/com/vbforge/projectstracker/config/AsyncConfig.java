@@ -0,0 +1,77 @@
+package com.vbforge.projectstracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for work fanned out from a request (statistics dashboard) and for password hashing
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String STATISTICS_EXECUTOR = "statisticsExecutor";
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    /**
+     * Bounded executor for the statistics sections.
+     * Platform threads: fixed pool + queue, when both are full the request thread runs the task itself
+     * (CallerRunsPolicy) so overload slows the page down instead of failing it.
+     * Virtual threads (virtual-threads profile): one virtual thread per task, the concurrency limit
+     * keeps the fan-out from draining the JDBC pool.
+     */
+    @Bean(name = STATISTICS_EXECUTOR)
+    public AsyncTaskExecutor statisticsExecutor(
+            Environment environment,
+            @Value("${app.statistics.pool-size:8}") int poolSize,
+            @Value("${app.statistics.queue-capacity:100}") int queueCapacity) {
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stats-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stats-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Bounded executor for password hashing (login, registration, hash upgrades).
+     * Hashing is CPU-bound, so this is a platform pool sized to the cores in every threading mode.
+     * When pool and queue are full the task is rejected (AbortPolicy): the login fails fast
+     * instead of queueing more CPU work. Queue depth is published by Boot's executor metrics
+     * (executor.queued / executor.active, name=passwordHashingExecutor).
+     */
+    @Bean(name = PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${app.security.hashing.pool-size:0}") int poolSize,
+            @Value("${app.security.hashing.queue-capacity:50}") int queueCapacity) {
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("hash-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,103 @@
+package com.vbforge.projectstracker.config;
+
+import com.vbforge.projectstracker.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Token-bucket rate limiting for POST /login and POST /register, per client address and (login)
+ * per submitted username. Registered in front of the security filter chain, so a rejected request
+ * costs no session, CSRF check, user lookup or password hash. Rejections answer 429 with
+ * Retry-After and are counted in tracker.rate-limit.rejected (endpoint, key).
+ */
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_COUNTER = "tracker.rate-limit.rejected";
+
+    private final TokenBucketRateLimiter loginPerAddress;
+    private final TokenBucketRateLimiter loginPerUsername;
+    private final TokenBucketRateLimiter registerPerAddress;
+    private final MeterRegistry meterRegistry;
+
+    public AuthRateLimitFilter(TokenBucketRateLimiter loginPerAddress,
+                               TokenBucketRateLimiter loginPerUsername,
+                               TokenBucketRateLimiter registerPerAddress,
+                               MeterRegistry meterRegistry) {
+        this.loginPerAddress = loginPerAddress;
+        this.loginPerUsername = loginPerUsername;
+        this.registerPerAddress = registerPerAddress;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("tracker.rate-limit.keys",
+                        () -> loginPerAddress.size() + loginPerUsername.size() + registerPerAddress.size())
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String address = request.getRemoteAddr();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Duration wait = switch (path) {
+            case "/login" -> check("login", "address", loginPerAddress, address,
+                    () -> check("login", "username", loginPerUsername, username(request), () -> Duration.ZERO));
+            case "/register" -> check("register", "address", registerPerAddress, address, () -> Duration.ZERO);
+            default -> Duration.ZERO;
+        };
+
+        if (wait.isZero()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Rounded up, Retry-After is whole seconds
+        long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please try again later");
+    }
+
+    // Checks the next limit only when this one passed, so a rejected request takes no further tokens
+    private Duration check(String endpoint, String keyType, TokenBucketRateLimiter limiter, String key,
+                           Supplier<Duration> next) {
+        Duration wait = limiter.tryAcquire(key);
+        if (!wait.isZero()) {
+            log.warn("Rate limit hit on {} for {} {}", endpoint, keyType, key);
+            Counter.builder(REJECTED_COUNTER)
+                    .description("Requests refused by the login/registration rate limiter")
+                    .tag("endpoint", endpoint)
+                    .tag("key", keyType)
+                    .register(meterRegistry)
+                    .increment();
+            return wait;
+        }
+        return next.get();
+    }
+
+    private static String username(HttpServletRequest request) {
+        String username = request.getParameter("username");
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,182 @@
+package com.vbforge.projectstracker.config;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Session attribute (de)serialization for the JDBC session store.
+ *
+ * The attributes every logged-in session carries - the security context of a form/Basic login
+ * and the CSRF token - are written field by field (a few dozen bytes instead of the ~1.5 KB of
+ * Java serialization, which repeats class descriptors for every nested type). Everything else,
+ * e.g. saved requests, flash maps or remember-me logins, falls back to Java serialization.
+ * A Java serialization stream starts with 0xAC, which no compact tag uses, so rows written
+ * before this format remain readable.
+ */
+public final class CompactSessionSerializer {
+
+    private static final byte SECURITY_CONTEXT = 1;
+    private static final byte CSRF_TOKEN = 2;
+    private static final byte STRING = 3;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.deserializer = new DeserializingConverter(classLoader);
+    }
+
+    // In the form Spring Session expects as springSessionConversionService
+    public ConversionService asConversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, this::serialize);
+        conversionService.addConverter(byte[].class, Object.class, this::deserialize);
+        return conversionService;
+    }
+
+    public byte[] serialize(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (value instanceof SecurityContextImpl context && value.getClass() == SecurityContextImpl.class
+                    && isCompact(context.getAuthentication())) {
+                out.writeByte(SECURITY_CONTEXT);
+                writeAuthentication(out, context.getAuthentication());
+            } else if (value instanceof DefaultCsrfToken token) {
+                out.writeByte(CSRF_TOKEN);
+                out.writeUTF(token.getHeaderName());
+                out.writeUTF(token.getParameterName());
+                out.writeUTF(token.getToken());
+            } else if (value instanceof String string && string.length() < 16_384) {
+                out.writeByte(STRING);
+                out.writeUTF(string);
+            } else {
+                return serializer.convert(value);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Object deserialize(byte[] bytes) {
+        if (bytes.length == 0 || (bytes[0] != SECURITY_CONTEXT && bytes[0] != CSRF_TOKEN && bytes[0] != STRING)) {
+            return deserializer.convert(bytes);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            return switch (bytes[0]) {
+                case SECURITY_CONTEXT -> new SecurityContextImpl(readAuthentication(in));
+                case CSRF_TOKEN -> new DefaultCsrfToken(in.readUTF(), in.readUTF(), in.readUTF());
+                default -> in.readUTF();
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * An authenticated username/password token whose credentials were erased, with the plain
+     * UserDetails from CustomUserDetailsService. Anything else keeps Java serialization so no
+     * state is lost.
+     */
+    private static boolean isCompact(Authentication authentication) {
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getCredentials() == null
+                && authentication.getPrincipal() instanceof User user
+                && user.getClass() == User.class
+                && user.getPassword() == null
+                && (authentication.getDetails() == null || authentication.getDetails().getClass() == WebAuthenticationDetails.class)
+                && authentication.getAuthorities().stream().allMatch(a -> a.getClass() == SimpleGrantedAuthority.class)
+                && user.getAuthorities().stream().allMatch(a -> a.getClass() == SimpleGrantedAuthority.class);
+    }
+
+    private static void writeAuthentication(DataOutputStream out, Authentication authentication) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        out.writeUTF(user.getUsername());
+        out.writeByte((user.isEnabled() ? 1 : 0)
+                | (user.isAccountNonExpired() ? 2 : 0)
+                | (user.isAccountNonLocked() ? 4 : 0)
+                | (user.isCredentialsNonExpired() ? 8 : 0));
+        writeAuthorities(out, user.getAuthorities());
+        writeAuthorities(out, authentication.getAuthorities());
+
+        WebAuthenticationDetails details = (WebAuthenticationDetails) authentication.getDetails();
+        out.writeBoolean(details != null);
+        if (details != null) {
+            writeNullable(out, details.getRemoteAddress());
+            writeNullable(out, details.getSessionId());
+        }
+    }
+
+    private static Authentication readAuthentication(DataInputStream in) throws IOException {
+        String username = in.readUTF();
+        int flags = in.readByte();
+        List<GrantedAuthority> userAuthorities = readAuthorities(in);
+        List<GrantedAuthority> authorities = readAuthorities(in);
+
+        // User rejects a null password, the original was erased after login as well
+        User user = new User(username, "", (flags & 1) != 0, (flags & 2) != 0, (flags & 8) != 0, (flags & 4) != 0,
+                userAuthorities);
+        user.eraseCredentials();
+
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(user, null, authorities);
+        if (in.readBoolean()) {
+            authentication.setDetails(new WebAuthenticationDetails(readNullable(in), readNullable(in)));
+        }
+        return authentication;
+    }
+
+    private static void writeAuthorities(DataOutputStream out, Iterable<? extends GrantedAuthority> authorities)
+            throws IOException {
+        List<String> names = new ArrayList<>();
+        authorities.forEach(authority -> names.add(authority.getAuthority()));
+        out.writeShort(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static List<GrantedAuthority> readAuthorities(DataInputStream in) throws IOException {
+        int count = in.readShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        return authorities;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
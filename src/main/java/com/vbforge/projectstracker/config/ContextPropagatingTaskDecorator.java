@@ -0,0 +1,36 @@
+package com.vbforge.projectstracker.config;
+
+import com.vbforge.projectstracker.monitoring.QueryCountHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carries request-thread state over to pooled tasks:
+ * the SecurityContext (for anything calling SecurityUtils) and the request's SQL statement counter,
+ * so queries issued in parallel still count towards the endpoint's @QueryBudget.
+ * Pool threads are restored afterwards - nothing leaks into the next task.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        AtomicInteger queryCounter = QueryCountHolder.current();
+
+        return () -> {
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            AtomicInteger previousCounter = QueryCountHolder.current();
+            try {
+                SecurityContextHolder.setContext(securityContext);
+                QueryCountHolder.bind(queryCounter);
+                runnable.run();
+            } finally {
+                QueryCountHolder.bind(previousCounter);
+                SecurityContextHolder.setContext(previousContext);
+            }
+        };
+    }
+}
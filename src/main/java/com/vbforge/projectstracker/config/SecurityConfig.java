@@ -1,40 +1,113 @@
 package com.vbforge.projectstracker.config;
 
+import com.vbforge.projectstracker.repository.CachingPersistentTokenRepository;
+import com.vbforge.projectstracker.service.LoginAttemptService;
+import com.vbforge.projectstracker.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
-import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 
-import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    static final String METRICS_ROLE = "METRICS";
+
     private final CustomUserDetailsService userDetailsService;
-    private final DataSource dataSource;
+    private final CachingPersistentTokenRepository tokenRepository;
+    private final LoginAttemptService loginAttemptService;
+
+    @Value("${app.remember-me.validity:30d}")
+    private Duration rememberMeValidity;
+
+    /**
+     * New hashes are stored as {encoding-id}hash with the configured algorithm and work factor.
+     * A successful login with a hash in an older format (unprefixed bcrypt from before this
+     * encoder, another algorithm, a lower bcrypt strength) re-hashes the password through
+     * CustomUserDetailsService.updatePassword. All hashing runs on the bounded hashing executor.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Qualifier(AsyncConfig.PASSWORD_HASHING_EXECUTOR) Executor hashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password.encoding-id:bcrypt}") String encodingId,
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.security.hashing.timeout:5s}") Duration hashingTimeout) {
+
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", new BCryptPasswordEncoder(bcryptStrength),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalStateException("Unsupported app.security.password.encoding-id: " + encodingId);
+        }
 
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        // Hashes stored before the {id} prefix existed are plain bcrypt
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+        return new BoundedPasswordEncoder(delegating, hashingExecutor, hashingTimeout, meterRegistry);
+    }
+
+    /**
+     * Rate limits login and registration posts ahead of the security filter chain
+     * (which runs at SecurityProperties.DEFAULT_FILTER_ORDER). Each limit allows that many
+     * requests at once and refills that many per app.rate-limit.period.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.period:1m}") Duration period,
+            @Value("${app.rate-limit.login-per-address:30}") int loginPerAddress,
+            @Value("${app.rate-limit.login-per-username:10}") int loginPerUsername,
+            @Value("${app.rate-limit.register-per-address:5}") int registerPerAddress,
+            @Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(
+                new TokenBucketRateLimiter(loginPerAddress, period, maxKeys),
+                new TokenBucketRateLimiter(loginPerUsername, period, maxKeys),
+                new TokenBucketRateLimiter(registerPerAddress, period, maxKeys),
+                meterRegistry);
+        FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/login", "/register");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new ThrottledAuthenticationProvider(loginAttemptService);
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
@@ -43,17 +116,63 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Actuator: health stays open for load balancer probes; metrics and the Prometheus scrape
+     * need HTTP Basic as the scrape user (app.metrics.username / app.metrics.password), which is
+     * separate from the application's users. Without a password nobody can read them.
+     */
     @Bean
-    public PersistentTokenRepository persistentTokenRepository() {
-        JdbcTokenRepositoryImpl tokenRepository = new JdbcTokenRepositoryImpl();
-        tokenRepository.setDataSource(dataSource);
-        return tokenRepository;
+    @Order(0)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   PasswordEncoder passwordEncoder,
+                                                   @Value("${app.metrics.username:prometheus}") String username,
+                                                   @Value("${app.metrics.password:}") String password) throws Exception {
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            scrapeUsers.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider scrapeProvider = new DaoAuthenticationProvider(passwordEncoder);
+        scrapeProvider.setUserDetailsService(scrapeUsers);
+
+        http
+                .securityMatcher("/actuator/**")
+                .authenticationManager(new ProviderManager(scrapeProvider))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasRole(METRICS_ROLE))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * JSON API: HTTP Basic on every request, no session. Without a session cookie there is
+     * nothing for a cross-site request to ride on, so CSRF tokens are not required here.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
+        http
+                .securityMatcher("/api/**")
+                .authenticationProvider(authenticationProvider)
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(AbstractHttpConfigurer::disable);
+
+        return http.build();
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
         http
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
 
                 .authorizeHttpRequests(auth -> auth
                         // Public routes
@@ -77,13 +196,13 @@ public class SecurityConfig {
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/login?logout=true")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID", "remember-me")
+                        .deleteCookies("SESSION", "JSESSIONID", "remember-me")
                         .permitAll()
                 )
 
                 .rememberMe(remember -> remember
-                        .tokenRepository(persistentTokenRepository())
-                        .tokenValiditySeconds(30 * 24 * 60 * 60)  // 30 days
+                        .tokenRepository(tokenRepository)
+                        .tokenValiditySeconds((int) rememberMeValidity.toSeconds())
                         .userDetailsService(userDetailsService)
                         .rememberMeParameter("remember-me")
                 );
@@ -0,0 +1,28 @@
+package com.vbforge.projectstracker.config;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * HTTP sessions are stored by Spring Session JDBC (SPRING_SESSION / SPRING_SESSION_ATTRIBUTES in
+ * the application's database), so any instance can serve any request and a restart keeps users
+ * logged in. Spring Session picks up the conversion service by bean name to (de)serialize
+ * attributes.
+ */
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Bean
+    public ConversionService springSessionConversionService() {
+        return new CompactSessionSerializer(classLoader).asConversionService();
+    }
+}
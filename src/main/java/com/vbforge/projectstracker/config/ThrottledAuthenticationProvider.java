@@ -0,0 +1,44 @@
+package com.vbforge.projectstracker.config;
+
+import com.vbforge.projectstracker.service.LoginAttemptService;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * DaoAuthenticationProvider that consults the login attempt limiter first: a blocked username
+ * or client address is refused before the user is loaded or a password is hashed.
+ */
+public class ThrottledAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final LoginAttemptService loginAttemptService;
+
+    public ThrottledAuthenticationProvider(LoginAttemptService loginAttemptService) {
+        this.loginAttemptService = loginAttemptService;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        String remoteAddress = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+
+        if (loginAttemptService.isBlocked(username, remoteAddress)) {
+            throw new LockedException("Too many failed login attempts, please try again later");
+        }
+
+        try {
+            Authentication result = super.authenticate(authentication);
+            loginAttemptService.loginSucceeded(username);
+            return result;
+        } catch (BadCredentialsException e) {
+            // Unknown usernames end up here too (hideUserNotFoundExceptions)
+            loginAttemptService.loginFailed(username, remoteAddress);
+            throw e;
+        }
+    }
+}
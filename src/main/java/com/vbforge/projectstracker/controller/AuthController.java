@@ -1,11 +1,18 @@
 package com.vbforge.projectstracker.controller;
 
 import com.vbforge.projectstracker.dto.RegisterDTO;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.service.AccountDeletionService;
 import com.vbforge.projectstracker.service.UserService;
+import com.vbforge.projectstracker.util.SecurityUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -21,12 +28,15 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class AuthController {
 
     private final UserService userService;
+    private final AccountDeletionService accountDeletionService;
+    private final SecurityUtils securityUtils;
 
     //login
     @GetMapping("/login")
     public String loginPage(
             @RequestParam(required = false) String error,
             @RequestParam(required = false) String logout,
+            @RequestParam(required = false) String deleted,
             Authentication authentication,
             Model model) {
 
@@ -41,6 +51,9 @@ public class AuthController {
         if (logout != null) {
             model.addAttribute("logoutMessage", "You have been logged out successfully.");
         }
+        if (deleted != null) {
+            model.addAttribute("logoutMessage", "Your account has been deleted.");
+        }
 
         return "auth/login";
     }
@@ -84,7 +97,44 @@ public class AuthController {
             // Username/email already taken
             model.addAttribute("errorMessage", e.getMessage());
             return "auth/register";
+        } catch (AuthenticationServiceException e) {
+            // Password hashing executor saturated
+            model.addAttribute("errorMessage", e.getMessage());
+            return "auth/register";
         }
     }
 
+    //account settings
+    @GetMapping("/account")
+    public String accountPage(Model model) {
+        model.addAttribute("user", securityUtils.getCurrentUser());
+        return "account";
+    }
+
+    //delete account: password asked again, then disabled and signed out at once,
+    //the data is removed by AccountDeletionJob
+    @PostMapping("/account/delete")
+    public String deleteAccount(
+            @RequestParam(defaultValue = "") String password,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Authentication authentication,
+            RedirectAttributes redirectAttributes) {
+
+        User user = securityUtils.getCurrentUser();
+        try {
+            if (!userService.passwordMatches(user, password)) {
+                redirectAttributes.addFlashAttribute("errorMessage", "Wrong password. Your account was not deleted.");
+                return "redirect:/account";
+            }
+        } catch (AuthenticationServiceException e) {
+            // Password hashing executor saturated
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return "redirect:/account";
+        }
+
+        accountDeletionService.requestDeletion(user);
+        new SecurityContextLogoutHandler().logout(request, response, authentication);
+        return "redirect:/login?deleted=true";
+    }
 }
@@ -3,6 +3,7 @@ package com.vbforge.projectstracker.controller;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
 import com.vbforge.projectstracker.service.ExportService;
 import com.vbforge.projectstracker.service.ProjectFilterService;
 import com.vbforge.projectstracker.util.SecurityUtils;
@@ -36,6 +37,7 @@ public class ExportController {
     /**
      * Export filtered projects to CSV format
      */
+    @QueryBudget(6)
     @GetMapping("/csv")
     public ResponseEntity<byte[]> exportCSV(
             @RequestParam(required = false) String search,
@@ -72,6 +74,7 @@ public class ExportController {
     /**
      * Export filtered projects to HTML report format
      */
+    @QueryBudget(6)
     @GetMapping("/html")
     public ResponseEntity<byte[]> exportHTML(
             @RequestParam(required = false) String search,
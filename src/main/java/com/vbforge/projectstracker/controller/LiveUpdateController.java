@@ -0,0 +1,25 @@
+package com.vbforge.projectstracker.controller;
+
+import com.vbforge.projectstracker.service.LiveUpdateService;
+import com.vbforge.projectstracker.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@RequiredArgsConstructor
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+    private final SecurityUtils securityUtils;
+
+    // Server-sent events for the dashboard and statistics pages (events: project, tag)
+    @GetMapping(value = "/projects/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter events() {
+        return liveUpdateService.subscribe(securityUtils.getCurrentUser());
+    }
+}
@@ -5,6 +5,9 @@ import com.vbforge.projectstracker.mapper.ProjectMapper;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.ProjectFragmentCache;
 import com.vbforge.projectstracker.service.ProjectService;
 import com.vbforge.projectstracker.service.TagService;
 import com.vbforge.projectstracker.util.SecurityUtils;
@@ -15,11 +18,13 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Controller
@@ -29,12 +34,15 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final TagService tagService;
+    private final DataVersionService dataVersionService;
+    private final ProjectFragmentCache projectFragmentCache;
     private final SecurityUtils securityUtils;
 
     // Valid page sizes
     private static final List<Integer> PAGE_SIZES = List.of(10, 25, 50, 100);
     private static final int DEFAULT_PAGE_SIZE = 10;
 
+    @QueryBudget(12)
     @GetMapping({"/", "/projects"})
     public String dashboard(
             @RequestParam(required = false) String search,
@@ -46,10 +54,14 @@ public class ProjectController {
             @RequestParam(required = false, defaultValue = "lastWorked") String sortBy,
             @RequestParam(required = false, defaultValue = "0") int page,
             @RequestParam(required = false, defaultValue = "10") int size,
+            NativeWebRequest webRequest,
+            Locale locale,
             Model model) {
 
         User currentUser = securityUtils.getCurrentUser();
-
+        if (ViewCaching.notModified(webRequest, dataVersionService.getVersion(currentUser))) {
+            return null;
+        }
 
         if (!PAGE_SIZES.contains(size)) size = DEFAULT_PAGE_SIZE;
         if (page < 0) page = 0;
@@ -82,8 +94,9 @@ public class ProjectController {
         int inProgressRate = totalProjects == 0 ? 0 : (int) ((inProgressProjects * 100.0) / totalProjects);
         int notStartedRate = totalProjects == 0 ? 0 : (int) ((notStartedProjects * 100.0) / totalProjects);
 
-        // Project list
+        // Project list (cards/rows come pre-rendered from the fragment cache)
         model.addAttribute("projects",           pagedProjects);
+        model.addAttribute("projectFragments",   projectFragmentCache.getFragments(pagedProjects, locale, webRequest.getContextPath()));
 
         // Stats cards
         model.addAttribute("totalProjects",      totalProjects);
@@ -97,7 +110,7 @@ public class ProjectController {
         model.addAttribute("notStartedRate",     notStartedRate);
 
         // Tags (scoped to current user)
-        model.addAttribute("allTags", tagService.getAllTagsOrderedByPopularity(currentUser));
+        model.addAttribute("allTags", tagService.getTagUsage(currentUser, 0));
 
         // Filter state
         model.addAttribute("searchTerm",       search);
@@ -208,15 +221,32 @@ public class ProjectController {
         try {
             projectService.deleteProject(id, currentUser);
             redirectAttributes.addFlashAttribute("success", "Project deleted successfully!");
+            redirectAttributes.addFlashAttribute("undoUrl", "/projects/" + id + "/restore");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error deleting project: " + e.getMessage());
         }
         return "redirect:/projects";
     }
 
+    @PostMapping("/projects/{id}/restore")
+    public String restoreProject(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        User currentUser = securityUtils.getCurrentUser();
+        try {
+            projectService.restoreProject(id, currentUser);
+            redirectAttributes.addFlashAttribute("success", "Project restored.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Error restoring project: " + e.getMessage());
+        }
+        return "redirect:/projects";
+    }
+
+    @QueryBudget(6)
     @GetMapping("/projects/{id}")
-    public String viewProject(@PathVariable Long id, Model model) {
+    public String viewProject(@PathVariable Long id, NativeWebRequest webRequest, Model model) {
         User currentUser = securityUtils.getCurrentUser();
+        if (ViewCaching.notModified(webRequest, dataVersionService.getVersion(currentUser))) {
+            return null;
+        }
         Project project = projectService.getProjectByIdAndOwner(id, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
         model.addAttribute("project", project);
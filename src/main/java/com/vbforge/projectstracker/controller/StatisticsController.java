@@ -1,16 +1,30 @@
 package com.vbforge.projectstracker.controller;
 
 import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.StatisticsDashboardDTO;
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineField;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
+import com.vbforge.projectstracker.service.ActivityCalendarService;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.StatisticsDashboardService;
 import com.vbforge.projectstracker.service.StatisticsService;
 import com.vbforge.projectstracker.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.*;
@@ -21,26 +35,38 @@ import java.util.*;
 @Slf4j
 public class StatisticsController {
 
+    private final StatisticsDashboardService statisticsDashboardService;
     private final StatisticsService statisticsService;
+    private final ActivityCalendarService activityCalendarService;
+    private final DataVersionService dataVersionService;
     private final SecurityUtils securityUtils;
 
+    // Sections run in parallel, each in its own persistence context (no shared first-level cache)
+    @QueryBudget(24)
     @GetMapping
-    public String showStatistics(Model model) {
+    public String showStatistics(NativeWebRequest webRequest, Model model) {
         User currentUser = securityUtils.getCurrentUser();
+        if (ViewCaching.notModified(webRequest, dataVersionService.getVersion(currentUser))) {
+            return null;
+        }
         log.info("Loading statistics dashboard for user: {}", currentUser.getUsername());
+        model.addAttribute("timelineMaxBuckets", StatisticsService.MAX_TIMELINE_BUCKETS);
 
         try {
+            // All sections are computed concurrently; failed or slow ones come back empty
+            StatisticsDashboardDTO dashboard = statisticsDashboardService.loadDashboard(currentUser);
+
             // Quick Stats
-            long totalProjects = statisticsService.getTotalProjects(currentUser);
-            double completionRate = statisticsService.getCompletionRate(currentUser);
-            double avgDaysSinceWorked = statisticsService.getAverageDaysSinceLastWorked(currentUser);
+            long totalProjects = dashboard.getTotalProjects();
+            double completionRate = dashboard.getCompletionRate();
+            double avgDaysSinceWorked = dashboard.getAvgDaysSinceWorked();
 
             model.addAttribute("totalProjects", totalProjects);
             model.addAttribute("completionRate", completionRate);
             model.addAttribute("avgDaysSinceWorked", avgDaysSinceWorked);
 
             // Chart 1: Projects by Status
-            Map<String, Long> statusData = statisticsService.getProjectsByStatus(currentUser);
+            Map<String, Long> statusData = dashboard.getStatusData();
             List<String> statusLabels = new ArrayList<>(statusData.keySet());
             List<Long> statusValues = new ArrayList<>(statusData.values());
 
@@ -50,7 +76,7 @@ public class StatisticsController {
             model.addAttribute("statusData", statusValues);
 
             // Chart 2: GitHub vs Local
-            Map<String, Long> githubData = statisticsService.getGitHubVsLocal(currentUser);
+            Map<String, Long> githubData = dashboard.getGithubData();
             List<String> githubLabels = new ArrayList<>(githubData.keySet());
             List<Long> githubValues = new ArrayList<>(githubData.values());
 
@@ -60,7 +86,7 @@ public class StatisticsController {
             model.addAttribute("githubData", githubValues);
 
             // Chart 3: Projects Created Over Time
-            Map<String, Long> timelineData = statisticsService.getProjectsCreatedByMonth(currentUser);
+            Map<String, Long> timelineData = dashboard.getTimelineData();
 
             // Convert YYYY-MM to readable month names
             List<String> timelineLabels = new ArrayList<>();
@@ -83,7 +109,7 @@ public class StatisticsController {
             model.addAttribute("timelineData", timelineValues);
 
             // Chart 4: Top Tags
-            Map<String, Long> topTags = statisticsService.getTopTags(10, currentUser);
+            Map<String, Long> topTags = dashboard.getTopTags();
             List<String> tagLabels = new ArrayList<>(topTags.keySet());
             List<Long> tagValues = new ArrayList<>(topTags.values());
 
@@ -93,7 +119,7 @@ public class StatisticsController {
             model.addAttribute("tagData", tagValues);
 
             // Chart 5: Activity Heatmap (Projects by days since last worked)
-            List<ProjectDTO> activityData = statisticsService.getProjectActivityData(currentUser);
+            List<ProjectDTO> activityData = dashboard.getActivityData();
 
             log.info("Activity data - {} projects found", activityData != null ? activityData.size() : 0);
 
@@ -136,9 +162,16 @@ public class StatisticsController {
             model.addAttribute("hasTagData", !tagLabels.isEmpty());
             model.addAttribute("hasActivityData", !activityLabels.isEmpty());
 
+            if (!dashboard.isComplete()) {
+                model.addAttribute("error", "Some statistics could not be loaded: "
+                        + String.join(", ", dashboard.getFailedSections()));
+                ViewCaching.doNotStore(webRequest);
+            }
+
         } catch (Exception e) {
             log.error("Error loading statistics", e);
             model.addAttribute("error", "Unable to load statistics: " + e.getMessage());
+            ViewCaching.doNotStore(webRequest);
 
             // Set empty defaults
             model.addAttribute("statusLabels", Arrays.asList("NOT_STARTED", "IN_PROGRESS", "DONE"));
@@ -156,5 +189,49 @@ public class StatisticsController {
         return "statistics";
     }
 
+    /**
+     * Timeline chart data for an arbitrary range, e.g.
+     * /statistics/timeline?field=CREATED&bucket=WEEK&from=2025-01-01&to=2025-12-31
+     * Defaults: projects created per month over the last 6 months.
+     */
+    @QueryBudget(3)
+    @GetMapping("/timeline")
+    @ResponseBody
+    public ResponseEntity<?> timeline(
+            @RequestParam(defaultValue = "CREATED") TimelineField field,
+            @RequestParam(defaultValue = "MONTH") TimeBucket bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(5).withDayOfMonth(1);
 
-}
\ No newline at end of file
+        try {
+            return ResponseEntity.ok(statisticsService.getProjectTimeline(
+                    securityUtils.getCurrentUser(), field, start, end, bucket));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Calendar heatmap data (project writes per day), e.g. /statistics/heatmap?from=2026-01-01&to=2026-12-31
+     * Defaults: the last 365 days up to today.
+     */
+    @QueryBudget(2)
+    @GetMapping("/heatmap")
+    @ResponseBody
+    public ResponseEntity<?> heatmap(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(364);
+
+        try {
+            return ResponseEntity.ok(activityCalendarService.getHeatmap(securityUtils.getCurrentUser(), start, end));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
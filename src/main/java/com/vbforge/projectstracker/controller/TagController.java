@@ -4,6 +4,8 @@ import com.vbforge.projectstracker.dto.TagDTO;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
+import com.vbforge.projectstracker.service.DataVersionService;
 import com.vbforge.projectstracker.service.TagService;
 import com.vbforge.projectstracker.util.SecurityUtils;
 import jakarta.validation.Valid;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 @Controller
@@ -22,11 +25,16 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class TagController {
 
     private final TagService tagService;
+    private final DataVersionService dataVersionService;
     private final SecurityUtils securityUtils;
 
+    @QueryBudget(6)
     @GetMapping
-    public String listTags(Model model) {
+    public String listTags(NativeWebRequest webRequest, Model model) {
         User currentUser = securityUtils.getCurrentUser();
+        if (ViewCaching.notModified(webRequest, dataVersionService.getVersion(currentUser))) {
+            return null;
+        }
 
         var allTags = tagService.getAllTagsOrderedByPopularity(currentUser);
 
@@ -143,6 +151,7 @@ public class TagController {
         try {
             tagService.deleteTag(id, currentUser);
             redirectAttributes.addFlashAttribute("success", "Tag deleted successfully!");
+            redirectAttributes.addFlashAttribute("undoUrl", "/tags/" + id + "/restore");
         } catch (Exception e) {
             log.error("Error deleting tag for user {}", currentUser.getUsername(), e);
             redirectAttributes.addFlashAttribute("error", "Error deleting tag: " + e.getMessage());
@@ -150,4 +159,19 @@ public class TagController {
 
         return "redirect:/tags";
     }
+
+    @PostMapping("/{id}/restore")
+    public String restoreTag(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        User currentUser = securityUtils.getCurrentUser();
+
+        try {
+            tagService.restoreTag(id, currentUser);
+            redirectAttributes.addFlashAttribute("success", "Tag restored.");
+        } catch (Exception e) {
+            log.error("Error restoring tag for user {}", currentUser.getUsername(), e);
+            redirectAttributes.addFlashAttribute("error", "Error restoring tag: " + e.getMessage());
+        }
+
+        return "redirect:/tags";
+    }
 }
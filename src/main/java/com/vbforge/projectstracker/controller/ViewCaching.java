@@ -0,0 +1,55 @@
+package com.vbforge.projectstracker.controller;
+
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Conditional GET for rendered pages: the ETag is derived from the owner's data version, so a
+ * repeat view of an unchanged page is answered with 304 before anything is queried or rendered.
+ */
+final class ViewCaching {
+
+    // Per-user pages: the browser may keep them but must revalidate every time
+    static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    // A new build may render different markup and reference new (hashed) asset URLs
+    private static final long INSTANCE_EPOCH = System.currentTimeMillis();
+
+    private ViewCaching() {
+    }
+
+    /**
+     * @param dataVersion the owner's current data version
+     * @return true when the browser's copy is still current; the 304 is then already set and
+     *         the handler returns null
+     */
+    static boolean notModified(NativeWebRequest request, long dataVersion) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        // A flash message is shown once: render it, and don't let the browser keep that copy
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(servletRequest);
+        if (flash != null && !flash.isEmpty()) {
+            return false;
+        }
+
+        // Pages embed the session's CSRF token and "days since" values that change at midnight
+        String etag = ResourceVersion.of(null, INSTANCE_EPOCH, dataVersion, request.getSessionId(),
+                LocalDate.now(), servletRequest.getRequestURI(), servletRequest.getQueryString()).etag();
+        request.getNativeResponse(HttpServletResponse.class)
+                .setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return request.checkNotModified(etag);
+    }
+
+    // For a degraded page (errors shown): the browser must not keep it and revalidate it later
+    static void doNotStore(NativeWebRequest request) {
+        request.getNativeResponse(HttpServletResponse.class)
+                .setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+    }
+}
@@ -0,0 +1,43 @@
+package com.vbforge.projectstracker.controller.api;
+
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET helpers shared by the API controllers
+ */
+final class ApiSupport {
+
+    // Per-user data: clients may keep it but must revalidate (If-None-Match) on every use
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ApiSupport() {
+    }
+
+    /**
+     * True when the client's If-None-Match / If-Modified-Since still matches; the 304 is then
+     * already set on the response and the handler returns null without loading anything.
+     */
+    static boolean notModified(WebRequest request, ResourceVersion version) {
+        return version.lastModified() == null
+                ? request.checkNotModified(version.etag())
+                : request.checkNotModified(version.etag(), version.lastModifiedMillis());
+    }
+
+    static <T> ResponseEntity<T> ok(ResourceVersion version, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .eTag(version.etag());
+        if (version.lastModified() != null) {
+            response.lastModified(version.lastModifiedMillis());
+        }
+        return response.body(body);
+    }
+
+    static String blankToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+}
@@ -0,0 +1,164 @@
+package com.vbforge.projectstracker.controller.api;
+
+import com.vbforge.projectstracker.dto.BulkProjectRequestDTO;
+import com.vbforge.projectstracker.dto.BulkResultDTO;
+import com.vbforge.projectstracker.dto.CursorPageDTO;
+import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import com.vbforge.projectstracker.dto.StaleProjectDTO;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.mapper.ProjectMapper;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.StaleProjectService;
+import com.vbforge.projectstracker.util.SecurityUtils;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON API for projects (version 1). Authenticated per request with HTTP Basic (see SecurityConfig).
+ * GETs answer If-None-Match / If-Modified-Since with 304 before loading any project; their
+ * validators include today's date, as daysSinceLastWorked changes at midnight.
+ */
+@RestController
+@RequestMapping("/api/v1/projects")
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectApiController {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+
+    private final ProjectService projectService;
+    private final StaleProjectService staleProjectService;
+    private final DataVersionService dataVersionService;
+    private final ProjectMapper projectMapper;
+    private final SecurityUtils securityUtils;
+    private final Clock clock;
+
+    @QueryBudget(6)
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<ProjectDTO>> list(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) Boolean onGithub,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "" + DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        User owner = securityUtils.getCurrentUser();
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        LocalDate today = LocalDate.now(clock);
+        ResourceVersion version = ResourceVersion.of(null, owner.getId(), dataVersionService.getVersion(owner))
+                .with(search, status, onGithub, tag, cursor, size)
+                .asOf(today);
+        if (ApiSupport.notModified(request, version)) {
+            return null;
+        }
+
+        // One extra row tells whether there is a next page
+        List<Project> page = projectService.getProjectPage(owner, cursor, size + 1,
+                ApiSupport.blankToNull(search), status, onGithub, ApiSupport.blankToNull(tag));
+        boolean hasNext = page.size() > size;
+        List<Project> items = hasNext ? page.subList(0, size) : page;
+
+        CursorPageDTO<ProjectDTO> body = CursorPageDTO.<ProjectDTO>builder()
+                .items(items.stream().map(project -> projectMapper.toDTO(project, today)).toList())
+                .nextCursor(hasNext ? items.get(items.size() - 1).getId() : null)
+                .limit(size)
+                .build();
+        return ApiSupport.ok(version, body);
+    }
+
+    /**
+     * The stalest NOT_STARTED / IN_PROGRESS projects, stalest first, as of the last staleness scan
+     */
+    @QueryBudget(3)
+    @GetMapping("/stale")
+    public List<StaleProjectDTO> stale() {
+        return staleProjectService.getStaleProjects(securityUtils.getCurrentUser());
+    }
+
+    @QueryBudget(5)
+    @GetMapping("/{id}")
+    public ResponseEntity<ProjectDTO> get(@PathVariable Long id, WebRequest request) {
+        User owner = securityUtils.getCurrentUser();
+        LocalDate today = LocalDate.now(clock);
+        ResourceVersion version = projectService.getProjectVersion(id, owner)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id))
+                .asOf(today);
+        if (ApiSupport.notModified(request, version)) {
+            return null;
+        }
+
+        Project project = projectService.getProjectByIdAndOwner(id, owner)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        return ApiSupport.ok(version, projectMapper.toDTO(project, today));
+    }
+
+    @PostMapping
+    public ResponseEntity<ProjectDTO> create(
+            @Validated({Default.class, ProjectDTO.GithubValidation.class}) @RequestBody ProjectDTO projectDTO) {
+        User owner = securityUtils.getCurrentUser();
+        Project project = projectMapper.toEntity(projectDTO);
+        project.setId(null);
+        project.setOwner(owner);
+
+        Project saved = projectService.saveProject(project, tagIds(projectDTO));
+        return ResponseEntity
+                .created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(saved.getId()).toUri())
+                .body(projectMapper.toDTO(saved));
+    }
+
+    // Full replacement of the editable fields, tagIds included (omitted tagIds removes all tags)
+    @PutMapping("/{id}")
+    public ProjectDTO update(@PathVariable Long id,
+                             @Validated({Default.class, ProjectDTO.GithubValidation.class}) @RequestBody ProjectDTO projectDTO) {
+        User owner = securityUtils.getCurrentUser();
+        Project updated = projectService.updateProject(id, projectMapper.toEntity(projectDTO), tagIds(projectDTO), owner);
+        return projectMapper.toDTO(updated);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id) {
+        projectService.deleteProject(id, securityUtils.getCurrentUser());
+    }
+
+    // Undo of DELETE within the undo window; 404 once the project was purged
+    @PostMapping("/{id}/restore")
+    public ProjectDTO restore(@PathVariable Long id) {
+        return projectMapper.toDTO(projectService.restoreProject(id, securityUtils.getCurrentUser()));
+    }
+
+    @PostMapping("/bulk")
+    public BulkResultDTO bulk(@Valid @RequestBody BulkProjectRequestDTO request) {
+        int affected = projectService.applyBulkOperation(request, securityUtils.getCurrentUser());
+        return BulkResultDTO.builder()
+                .action(request.getAction())
+                .affected(affected)
+                .build();
+    }
+
+    private static List<Long> tagIds(ProjectDTO projectDTO) {
+        return projectDTO.getTagIds() != null ? new ArrayList<>(projectDTO.getTagIds()) : List.of();
+    }
+}
@@ -0,0 +1,111 @@
+package com.vbforge.projectstracker.controller.api;
+
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import com.vbforge.projectstracker.dto.TagDTO;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.DuplicateResourceException;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.mapper.TagMapper;
+import com.vbforge.projectstracker.monitoring.QueryBudget;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.TagService;
+import com.vbforge.projectstracker.util.SecurityUtils;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JSON API for tags (version 1). Project counts come from one GROUP BY query,
+ * the tags' project collections are never loaded.
+ */
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagApiController {
+
+    private final TagService tagService;
+    private final DataVersionService dataVersionService;
+    private final TagMapper tagMapper;
+    private final SecurityUtils securityUtils;
+
+    @QueryBudget(7)
+    @GetMapping
+    public ResponseEntity<List<TagDTO>> list(WebRequest request) {
+        User owner = securityUtils.getCurrentUser();
+        ResourceVersion version = ResourceVersion.of(null, owner.getId(), dataVersionService.getVersion(owner), "tags");
+        if (ApiSupport.notModified(request, version)) {
+            return null;
+        }
+
+        Map<Long, Long> counts = tagService.getTagUsage(owner, 0).stream()
+                .collect(Collectors.toMap(TagUsageDTO::getId, TagUsageDTO::getProjectCount));
+        List<TagDTO> tags = tagService.getAllTagsOrderedByName(owner).stream()
+                .map(tag -> tagMapper.toDTO(tag, counts.getOrDefault(tag.getId(), 0L).intValue()))
+                .toList();
+        return ApiSupport.ok(version, tags);
+    }
+
+    @QueryBudget(4)
+    @GetMapping("/{id}")
+    public ResponseEntity<TagDTO> get(@PathVariable Long id, WebRequest request) {
+        User owner = securityUtils.getCurrentUser();
+        ResourceVersion version = tagService.getTagVersion(id, owner)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
+        if (ApiSupport.notModified(request, version)) {
+            return null;
+        }
+
+        Tag tag = tagService.getTagById(id, owner)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
+        return ApiSupport.ok(version, tagMapper.toDTO(tag));
+    }
+
+    @PostMapping
+    public ResponseEntity<TagDTO> create(@Valid @RequestBody TagDTO tagDTO) {
+        User owner = securityUtils.getCurrentUser();
+        if (tagService.existsByName(tagDTO.getName(), owner)) {
+            throw new DuplicateResourceException("Tag", "name", tagDTO.getName());
+        }
+        Tag tag = tagMapper.toEntity(tagDTO);
+        tag.setId(null);
+        tag.setOwner(owner);
+
+        Tag saved = tagService.saveTag(tag);
+        return ResponseEntity
+                .created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(saved.getId()).toUri())
+                .body(tagMapper.toDTO(saved, 0));
+    }
+
+    @PutMapping("/{id}")
+    public TagDTO update(@PathVariable Long id, @Valid @RequestBody TagDTO tagDTO) {
+        User owner = securityUtils.getCurrentUser();
+        tagService.getTagByName(tagDTO.getName(), owner)
+                .filter(existing -> !existing.getId().equals(id))
+                .ifPresent(existing -> {
+                    throw new DuplicateResourceException("Tag", "name", tagDTO.getName());
+                });
+        return tagMapper.toDTO(tagService.updateTag(id, tagMapper.toEntity(tagDTO), owner));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id) {
+        tagService.deleteTag(id, securityUtils.getCurrentUser());
+    }
+
+    // Undo of DELETE within the undo window; 404 once the tag was purged
+    @PostMapping("/{id}/restore")
+    public TagDTO restore(@PathVariable Long id) {
+        return tagMapper.toDTO(tagService.restoreTag(id, securityUtils.getCurrentUser()));
+    }
+}
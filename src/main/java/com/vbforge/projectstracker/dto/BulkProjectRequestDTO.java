@@ -0,0 +1,43 @@
+package com.vbforge.projectstracker.dto;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk operation on several projects of the current user, applied all-or-nothing.
+ * status is required for SET_STATUS, tagId for ADD_TAG / REMOVE_TAG.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkProjectRequestDTO {
+
+    public static final int MAX_IDS = 500;
+
+    public enum Action {
+        DELETE,
+        SET_STATUS,
+        ADD_TAG,
+        REMOVE_TAG
+    }
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    @NotEmpty(message = "At least one project id is required")
+    @Size(max = MAX_IDS, message = "At most 500 projects per request")
+    private List<Long> ids;
+
+    private ProjectStatus status;
+
+    private Long tagId;
+}
@@ -0,0 +1,16 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkResultDTO {
+
+    private BulkProjectRequestDTO.Action action;
+    private int affected;
+}
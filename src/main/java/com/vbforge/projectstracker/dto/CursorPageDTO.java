@@ -0,0 +1,23 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated API listing.
+ * nextCursor is passed back as ?cursor= to get the following page; null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    private Long nextCursor;
+    private int limit;
+}
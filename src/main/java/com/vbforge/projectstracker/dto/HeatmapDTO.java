@@ -0,0 +1,25 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Calendar heatmap: project writes per day from "from" to "to" (counts.get(0) is "from"), empty days included
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeatmapDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<Integer> counts;
+    private long total;
+    private int max;
+}
@@ -1,5 +1,6 @@
 package com.vbforge.projectstracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -75,6 +76,7 @@ public class ProjectDTO {
      * Validates GitHub URL only when onGithub is true
      */
     @AssertTrue(message = "GitHub URL is required when project is marked as 'On GitHub'", groups = GithubValidation.class)
+    @JsonIgnore
     public boolean isGithubUrlValid() {
         if (Boolean.TRUE.equals(onGithub)) {
             return githubUrl != null && !githubUrl.trim().isEmpty();
@@ -0,0 +1,7 @@
+package com.vbforge.projectstracker.dto;
+
+/**
+ * Rendered dashboard markup of one project: the card (card view) and the table row (table view)
+ */
+public record ProjectFragments(String card, String row) {
+}
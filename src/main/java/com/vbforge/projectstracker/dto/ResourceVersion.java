@@ -0,0 +1,51 @@
+package com.vbforge.projectstracker.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Validator for conditional GET: a weak ETag and Last-Modified computed from updatedAt/count
+ * columns, so an unchanged resource can be answered with 304 before any entity is loaded.
+ */
+public record ResourceVersion(String etag, LocalDateTime lastModified) {
+
+    /**
+     * @param lastModified latest updatedAt of everything the representation contains (may be null)
+     * @param parts        anything else the representation depends on (counts, query parameters)
+     */
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        String key = lastModified + "|" + Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        String digest = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("W/\"" + digest + "\"", lastModified);
+    }
+
+    // Combines with a further dependency, e.g. the query string of a listing
+    public ResourceVersion with(Object... parts) {
+        Object[] all = new Object[parts.length + 1];
+        all[0] = etag;
+        System.arraycopy(parts, 0, all, 1, parts.length);
+        return of(lastModified, all);
+    }
+
+    // For representations with fields computed from today's date: they change at midnight
+    public ResourceVersion asOf(LocalDate today) {
+        ResourceVersion dated = with(today);
+        return new ResourceVersion(dated.etag(), lastModified == null ? null : latest(lastModified, today.atStartOfDay()));
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,25 @@
+package com.vbforge.projectstracker.dto;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An active project that has gone cold, as found by the last staleness scan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StaleProjectDTO {
+
+    private Long id;
+    private String title;
+    private ProjectStatus status;
+    private LocalDateTime lastWorkedOn;
+    private long daysSinceLastWorked;
+}
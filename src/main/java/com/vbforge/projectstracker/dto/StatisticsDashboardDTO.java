@@ -0,0 +1,55 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the statistics page shows, loaded in one go by StatisticsDashboardService.
+ * Sections that failed or timed out hold empty defaults and are listed in failedSections.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsDashboardDTO {
+
+    public static final String QUICK_STATS = "quick stats";
+    public static final String STATUS = "status chart";
+    public static final String GITHUB = "GitHub chart";
+    public static final String TIMELINE = "timeline chart";
+    public static final String TAGS = "tags chart";
+    public static final String ACTIVITY = "activity chart";
+
+    private long totalProjects;
+    private double completionRate;
+    private double avgDaysSinceWorked;
+
+    @Builder.Default
+    private Map<String, Long> statusData = new LinkedHashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> githubData = new LinkedHashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> timelineData = new LinkedHashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> topTags = new LinkedHashMap<>();
+
+    @Builder.Default
+    private List<ProjectDTO> activityData = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> failedSections = new ArrayList<>();
+
+    public boolean isComplete() {
+        return failedSections.isEmpty();
+    }
+}
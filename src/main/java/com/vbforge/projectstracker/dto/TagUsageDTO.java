@@ -0,0 +1,22 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tag with its project count, projected straight from a GROUP BY query (no entities loaded).
+ * Used by the statistics top tags chart and the dashboard Quick Tags.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagUsageDTO {
+
+    private Long id;
+    private String name;
+    private String color;
+    private Long projectCount;
+}
@@ -0,0 +1,62 @@
+package com.vbforge.projectstracker.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of a statistics timeline. Buckets are identified by their first day.
+ */
+public enum TimeBucket {
+
+    DAY(ChronoUnit.DAYS, 1),
+    WEEK(ChronoUnit.WEEKS, 1),
+    MONTH(ChronoUnit.MONTHS, 1),
+    QUARTER(ChronoUnit.MONTHS, 3);
+
+    private final ChronoUnit unit;
+    private final int amount;
+
+    TimeBucket(ChronoUnit unit, int amount) {
+        this.unit = unit;
+        this.amount = amount;
+    }
+
+    /**
+     * First day of the bucket containing the given day (weeks start on Monday, ISO)
+     */
+    public LocalDate start(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case QUARTER -> LocalDate.of(day.getYear(), (day.get(IsoFields.QUARTER_OF_YEAR) - 1) * 3 + 1, 1);
+        };
+    }
+
+    public LocalDate next(LocalDate start) {
+        return start.plus(amount, unit);
+    }
+
+    /**
+     * Number of buckets between two days (both inclusive)
+     */
+    public long count(LocalDate from, LocalDate to) {
+        return unit.between(start(from), start(to)) / amount + 1;
+    }
+
+    /**
+     * Display label: 2026-10-19, 2026-W42, 2026-10, 2026-Q4
+     */
+    public String label(LocalDate start) {
+        return switch (this) {
+            case DAY -> start.toString();
+            case WEEK -> String.format("%d-W%02d",
+                    start.get(IsoFields.WEEK_BASED_YEAR), start.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTH -> String.format("%d-%02d", start.getYear(), start.getMonthValue());
+            case QUARTER -> start.getYear() + "-Q" + start.get(IsoFields.QUARTER_OF_YEAR);
+        };
+    }
+}
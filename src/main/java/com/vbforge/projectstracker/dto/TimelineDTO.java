@@ -0,0 +1,26 @@
+package com.vbforge.projectstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Chart-ready timeline: labels and counts in bucket order, empty buckets included
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineDTO {
+
+    private TimelineField field;
+    private TimeBucket bucket;
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> labels;
+    private List<Long> data;
+}
@@ -0,0 +1,21 @@
+package com.vbforge.projectstracker.dto;
+
+/**
+ * Project date a statistics timeline is built on
+ */
+public enum TimelineField {
+
+    CREATED("createdDate"),
+    LAST_WORKED("lastWorkedOn");
+
+    // Entity property, used to build the query (never user input)
+    private final String property;
+
+    TimelineField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
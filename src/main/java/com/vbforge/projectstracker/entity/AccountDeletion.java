@@ -0,0 +1,41 @@
+package com.vbforge.projectstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one account deletion. Stage and row count are advanced in the same transaction as
+ * each deleted chunk, so an interrupted deletion resumes where it stopped.
+ * No foreign key to users - the row outlives the user it describes, and keeps nothing but its id.
+ */
+@Entity
+@Table(name = "account_deletions", indexes = @Index(name = "idx_account_deletions_completed_at", columnList = "completed_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountDeletion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AccountDeletionStage stage;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private long rowsDeleted;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,19 @@
+package com.vbforge.projectstracker.entity;
+
+/**
+ * Steps of an account deletion, in the order AccountDeletionService runs them.
+ * Derived data goes first so nothing the relay writes later is left behind; the user row goes last.
+ */
+public enum AccountDeletionStage {
+    OUTBOX,
+    ACTIVITY,
+    STATISTICS,
+    PROJECTS,
+    TAGS,
+    ACCOUNT,
+    DONE;
+
+    public AccountDeletionStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,60 @@
+package com.vbforge.projectstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * One owner's project writes per day of one year, as 366 big-endian ints (day of year - 1),
+ * so a year of heatmap data is a single 1.5 KB row.
+ */
+@Entity
+@Table(
+        name = "activity_calendar",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_calendar", columnNames = {"owner_id", "calendar_year"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityCalendar {
+
+    public static final int DAYS = 366;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "calendar_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false, length = DAYS * Integer.BYTES)
+    private byte[] counts;
+
+    public static ActivityCalendar empty(Long ownerId, int year) {
+        return ActivityCalendar.builder()
+                .ownerId(ownerId)
+                .year(year)
+                .counts(new byte[DAYS * Integer.BYTES])
+                .build();
+    }
+
+    public int getCount(int dayOfYear) {
+        return ByteBuffer.wrap(counts).getInt((dayOfYear - 1) * Integer.BYTES);
+    }
+
+    public void add(int dayOfYear, int delta) {
+        // Replaced rather than changed in place, so the change is obvious to dirty checking
+        byte[] updated = Arrays.copyOf(counts, counts.length);
+        ByteBuffer buffer = ByteBuffer.wrap(updated);
+        int offset = (dayOfYear - 1) * Integer.BYTES;
+        buffer.putInt(offset, buffer.getInt(offset) + delta);
+        counts = updated;
+    }
+}
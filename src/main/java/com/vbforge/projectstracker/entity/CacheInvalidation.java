@@ -0,0 +1,52 @@
+package com.vbforge.projectstracker.entity;
+
+import com.vbforge.projectstracker.event.CacheRegion;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row of the cache invalidation bus: written in the same transaction as the project/tag
+ * write it describes, read by every node's poller, deleted after the retention period.
+ * No foreign key to users - rows outlive nothing but a few minutes and must never block a delete.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at"),
+        // Account deletion selects a user's rows
+        @Index(name = "idx_cache_invalidations_owner", columnList = "owner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Null for remember-me tokens, which belong to a username
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CacheRegion region;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    // Series or username of the TOKEN_* regions
+    @Column(name = "entity_key", length = 64)
+    private String entityKey;
+
+    // Node that performed the write; it skips its own rows
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,83 @@
+package com.vbforge.projectstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-owner daily statistics rollup, written by StatisticsRollupService.
+ *
+ * createdCount / workedCount are final once the day is closed.
+ * The snapshot columns (totals, status counts, tag usage) describe the owner's projects as of computedAt
+ * and are only filled on days the rollup ran with changes for this owner -
+ * a missing snapshot means "unchanged since the previous one".
+ */
+@Entity
+@Table(
+        name = "daily_statistics",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "stat_date"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User owner;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // Projects created on statDate
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    // Projects whose last worked on date was statDate when the day was rolled up
+    @Column(name = "worked_count", nullable = false)
+    private long workedCount;
+
+    // Snapshot (nullable, see class comment)
+    @Column(name = "total_projects")
+    private Long totalProjects;
+
+    @Column(name = "not_started_count")
+    private Long notStartedCount;
+
+    @Column(name = "in_progress_count")
+    private Long inProgressCount;
+
+    @Column(name = "done_count")
+    private Long doneCount;
+
+    @Column(name = "on_github_count")
+    private Long onGithubCount;
+
+    // Sum of LocalDate.toEpochDay() of every project's last worked on date:
+    // average days since last worked on any later day = day.toEpochDay() - sum / totalProjects
+    @Column(name = "last_worked_epoch_day_sum")
+    private Long lastWorkedEpochDaySum;
+
+    // Tag name -> number of projects using it
+    @Convert(converter = TagUsageConverter.class)
+    @Column(name = "tag_usage", columnDefinition = "TEXT")
+    @Builder.Default
+    private Map<String, Long> tagUsage = new LinkedHashMap<>();
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public boolean hasSnapshot() {
+        return totalProjects != null;
+    }
+}
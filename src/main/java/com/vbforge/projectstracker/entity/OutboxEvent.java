@@ -0,0 +1,77 @@
+package com.vbforge.projectstracker.entity;
+
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change outbox row: appended by ProjectService/TagService in the transaction of the write it
+ * describes, marked published by the relay, deleted after the retention period.
+ * No foreign keys - the row must outlive the entity it describes.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_published_id", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_events_created_at", columnList = "created_at"),
+        // Account deletion selects a user's rows
+        @Index(name = "idx_outbox_events_owner", columnList = "owner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    // Comma separated property names, empty = whole entity
+    @Column(name = "changed_fields", nullable = false)
+    private String changedFields;
+
+    // Project status before and after the write (null for tags, before a creation, after a deletion)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 16)
+    private ProjectStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ProjectStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Null until relayed
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // Failed deliveries of this row on its own
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    // Set when the row was dead-lettered after too many failed deliveries
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,7 +13,20 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+@Table(
+        name = "projects",
+        indexes = {
+                // Owner-scoped date ranges: timelines, rollup, "created since"
+                @Index(name = "idx_projects_owner_created", columnList = "user_id, created_date"),
+                @Index(name = "idx_projects_owner_last_worked", columnList = "user_id, last_worked_on"),
+                // Stale-project scan over all owners
+                @Index(name = "idx_projects_last_worked", columnList = "last_worked_on, id"),
+                // Soft-deleted rows past the undo window (SoftDeletePurgeService)
+                @Index(name = "idx_projects_deleted", columnList = "deleted_at")
+        }
+)
+// Soft-deleted projects are invisible to every entity load, query and tag collection
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -59,6 +73,10 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set by a delete; the row and its project_tags links are purged once the undo window has passed
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     //Owner - every project belongs to exactly one user
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -99,7 +117,12 @@ public class Project {
 
     // Calculated property for Thymeleaf
     public long getDaysSinceLastWorked() {
-        return ChronoUnit.DAYS.between(lastWorkedOn.toLocalDate(), LocalDate.now());
+        return getDaysSinceLastWorked(LocalDate.now());
+    }
+
+    // For lists: take "today" once per request instead of once per project
+    public long getDaysSinceLastWorked(LocalDate today) {
+        return ChronoUnit.DAYS.between(lastWorkedOn.toLocalDate(), today);
     }
 
 }
@@ -0,0 +1,52 @@
+package com.vbforge.projectstracker.entity;
+
+import com.vbforge.projectstracker.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only project activity: one row per committed project write, taken from the change outbox
+ * (the id is the outbox sequence). Rows older than the raw retention are folded into
+ * ProjectActivityDay by the compaction job and deleted.
+ * No foreign keys - history outlives deleted projects.
+ */
+@Entity
+@Table(name = "project_activity", indexes = {
+        @Index(name = "idx_project_activity_owner_time", columnList = "owner_id, occurred_at"),
+        @Index(name = "idx_project_activity_project_time", columnList = "project_id, occurred_at"),
+        @Index(name = "idx_project_activity_time", columnList = "occurred_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectActivity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    // Status transition; equal values = the write did not change the status
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 16)
+    private ProjectStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 16)
+    private ProjectStatus toStatus;
+}
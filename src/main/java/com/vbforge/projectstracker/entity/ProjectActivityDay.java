@@ -0,0 +1,48 @@
+package com.vbforge.projectstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Compacted project activity: the ProjectActivity rows of one project on one day, folded into counts.
+ */
+@Entity
+@Table(
+        name = "project_activity_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_activity_daily",
+                columnNames = {"owner_id", "activity_date", "project_id"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectActivityDay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Writes of the project on that day
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    // Writes that moved the project to another status
+    @Column(name = "status_changes", nullable = false)
+    private long statusChanges;
+
+    // Writes that moved the project to DONE
+    @Column(nullable = false)
+    private long completions;
+}
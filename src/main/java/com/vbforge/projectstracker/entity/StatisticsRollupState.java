@@ -0,0 +1,35 @@
+package com.vbforge.projectstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Single-row progress marker of the daily statistics rollup.
+ * Only advanced after a run processed every changed owner, so daily_statistics is complete
+ * for all owners up to and including rolledUpThrough.
+ */
+@Entity
+@Table(name = "statistics_rollup_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsRollupState {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    // Last closed day included in the rollup
+    @Column(name = "rolled_up_through", nullable = false)
+    private LocalDate rolledUpThrough;
+
+    // Start of the last successful run: changes after this are picked up by the next run
+    @Column(name = "last_run_started_at", nullable = false)
+    private LocalDateTime lastRunStartedAt;
+}
@@ -2,6 +2,7 @@ package com.vbforge.projectstracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -12,8 +13,11 @@ import java.util.Set;
 @Table(
         name = "tags",
         // A tag name must be unique PER USER, not globally
-        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"}),
+        indexes = @Index(name = "idx_tags_deleted", columnList = "deleted_at")
 )
+// Soft-deleted tags are invisible to every entity load, query and project collection
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +46,10 @@ public class Tag {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set by a delete; the row and its project_tags links are purged once the undo window has passed
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // Owner — every tag belongs to exactly one user
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -2,6 +2,7 @@ package com.vbforge.projectstracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -41,6 +42,14 @@ public class User {
     @Builder.Default
     private boolean enabled = true;
 
+    // Moves on every project/tag write of this user (DataVersionService); only ever changed by
+    // the atomic UPDATE in UserRepository, never by saving the entity. The DB default covers
+    // existing rows and the seeder's plain JDBC inserts
+    @ColumnDefault("0")
+    @Column(name = "data_version", nullable = false, updatable = false)
+    @Builder.Default
+    private long dataVersion = 0;
+
     // One user has many projects
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
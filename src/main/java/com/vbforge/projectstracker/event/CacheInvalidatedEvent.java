@@ -0,0 +1,13 @@
+package com.vbforge.projectstracker.event;
+
+/**
+ * Published locally by CacheInvalidationBus for a project/tag write committed by another node.
+ * Local writes are not repeated here: their ProjectChangedEvent / TagChangedEvent already reached
+ * this node's caches.
+ */
+public record CacheInvalidatedEvent(Long ownerId, CacheRegion region, Long entityId, String entityKey) {
+
+    public CacheInvalidatedEvent(Long ownerId, CacheRegion region, Long entityId) {
+        this(ownerId, region, entityId, null);
+    }
+}
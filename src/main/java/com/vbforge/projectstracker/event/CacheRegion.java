@@ -0,0 +1,13 @@
+package com.vbforge.projectstracker.event;
+
+/**
+ * What a cache invalidation covers: a single project, or everything of the owner that shows
+ * a tag (renames and colors appear in every project using the tag). TOKEN_SERIES and TOKEN_USER
+ * are remember-me tokens, keyed by series or username instead of an owner and id.
+ */
+public enum CacheRegion {
+    PROJECT,
+    TAG,
+    TOKEN_SERIES,
+    TOKEN_USER
+}
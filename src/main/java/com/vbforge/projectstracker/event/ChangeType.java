@@ -0,0 +1,7 @@
+package com.vbforge.projectstracker.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
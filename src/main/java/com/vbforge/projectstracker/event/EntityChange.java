@@ -0,0 +1,27 @@
+package com.vbforge.projectstracker.event;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One committed project/tag write, as delivered by the change outbox relay.
+ *
+ * changedFields names the entity properties the write changed (title, status, tags, ...); it is
+ * empty when the whole entity is new, gone or was saved without a previous state to compare.
+ * previousStatus/status describe a project's status transition (null for tags and for the
+ * missing side of a creation or deletion).
+ * A deleted tag is also gone from all of its projects - no separate project changes are recorded.
+ */
+public record EntityChange(
+        Long sequence,
+        EntityType entityType,
+        Long entityId,
+        Long ownerId,
+        ChangeType type,
+        Set<String> changedFields,
+        ProjectStatus previousStatus,
+        ProjectStatus status,
+        LocalDateTime occurredAt) {
+}
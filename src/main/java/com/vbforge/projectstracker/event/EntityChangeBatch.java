@@ -0,0 +1,13 @@
+package com.vbforge.projectstracker.event;
+
+import java.util.List;
+
+/**
+ * Published by ChangeOutbox for each relayed batch, in outbox order.
+ *
+ * Listeners run synchronously inside the relay transaction: whatever they write commits together
+ * with the batch being marked as delivered, and an exception rolls both back so the batch is
+ * delivered again. Delivery is therefore at least once - listeners must be idempotent.
+ */
+public record EntityChangeBatch(List<EntityChange> changes) {
+}
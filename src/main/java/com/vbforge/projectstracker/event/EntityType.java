@@ -0,0 +1,7 @@
+package com.vbforge.projectstracker.event;
+
+// Entities whose writes are recorded in the change outbox
+public enum EntityType {
+    PROJECT,
+    TAG
+}
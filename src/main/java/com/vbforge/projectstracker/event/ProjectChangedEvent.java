@@ -0,0 +1,70 @@
+package com.vbforge.projectstracker.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Published by ProjectService after a project write, pushed to the owner's open pages once committed.
+ *
+ * countsDelta is keyed by the dashboard model attributes (totalProjects, completedProjects, ...)
+ * and tagDelta by tag name; both only hold non-zero changes.
+ */
+public record ProjectChangedEvent(
+        @JsonIgnore Long ownerId,
+        ChangeType type,
+        Long projectId,
+        String title,
+        ProjectStatus status,
+        boolean onGithub,
+        Map<String, Long> countsDelta,
+        Map<String, Long> tagDelta) {
+
+    /**
+     * @param before state before the write, null for a new project
+     * @param after  state after the write, null for a deleted project
+     */
+    public static ProjectChangedEvent of(ChangeType type, Project project, ProjectSnapshot before, ProjectSnapshot after) {
+        return of(type, project.getOwner().getId(), project.getId(), project.getTitle(), before, after);
+    }
+
+    // For writes that never load the entity (soft delete)
+    public static ProjectChangedEvent of(ChangeType type, Long ownerId, Long projectId, String title,
+                                         ProjectSnapshot before, ProjectSnapshot after) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, Long> tags = new LinkedHashMap<>();
+        apply(before, -1, counts, tags);
+        apply(after, 1, counts, tags);
+        counts.values().removeIf(delta -> delta == 0);
+        tags.values().removeIf(delta -> delta == 0);
+
+        ProjectSnapshot current = after != null ? after : before;
+        return new ProjectChangedEvent(ownerId, type, projectId, title,
+                current.status(), current.onGithub(), counts, tags);
+    }
+
+    private static void apply(ProjectSnapshot snapshot, long sign, Map<String, Long> counts, Map<String, Long> tags) {
+        if (snapshot == null) {
+            return;
+        }
+        counts.merge("totalProjects", sign, Long::sum);
+        if (snapshot.status() != null) {
+            counts.merge(countKey(snapshot.status()), sign, Long::sum);
+        }
+        if (snapshot.onGithub()) {
+            counts.merge("githubProjects", sign, Long::sum);
+        }
+        snapshot.tagNames().forEach(name -> tags.merge(name, sign, Long::sum));
+    }
+
+    private static String countKey(ProjectStatus status) {
+        return switch (status) {
+            case DONE -> "completedProjects";
+            case IN_PROGRESS -> "inProgressProjects";
+            case NOT_STARTED -> "notStartedProjects";
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.vbforge.projectstracker.event;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Tag;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The parts of a project the dashboard counts depend on, captured before and after a write
+ */
+public record ProjectSnapshot(ProjectStatus status, boolean onGithub, Set<String> tagNames) {
+
+    public static ProjectSnapshot of(Project project) {
+        Set<String> tagNames = project.getTags() == null ? Set.of() : project.getTags().stream()
+                .map(Tag::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        return new ProjectSnapshot(project.getStatus(), Boolean.TRUE.equals(project.getOnGithub()), tagNames);
+    }
+}
@@ -0,0 +1,16 @@
+package com.vbforge.projectstracker.event;
+
+/**
+ * Published by CachingPersistentTokenRepository after a remember-me series was rotated (series set)
+ * or all tokens of a user were removed (username set), so other nodes drop their cached copies.
+ */
+public record RememberMeTokenChangedEvent(String series, String username) {
+
+    public static RememberMeTokenChangedEvent rotated(String series) {
+        return new RememberMeTokenChangedEvent(series, null);
+    }
+
+    public static RememberMeTokenChangedEvent removed(String username) {
+        return new RememberMeTokenChangedEvent(null, username);
+    }
+}
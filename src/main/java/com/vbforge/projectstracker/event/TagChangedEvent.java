@@ -0,0 +1,21 @@
+package com.vbforge.projectstracker.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vbforge.projectstracker.entity.Tag;
+
+/**
+ * Published by TagService after a tag write, pushed to the owner's open pages once committed.
+ * previousName lets a page find the tag it shows under its old name after a rename.
+ */
+public record TagChangedEvent(
+        @JsonIgnore Long ownerId,
+        ChangeType type,
+        Long tagId,
+        String name,
+        String previousName,
+        String color) {
+
+    public static TagChangedEvent of(ChangeType type, Tag tag, String previousName) {
+        return new TagChangedEvent(tag.getOwner().getId(), type, tag.getId(), tag.getName(), previousName, tag.getColor());
+    }
+}
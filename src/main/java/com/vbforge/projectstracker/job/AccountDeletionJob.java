@@ -0,0 +1,28 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.AccountDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries out requested account deletions. A failed or interrupted run leaves the deletion at its
+ * recorded stage, and the next run continues from there.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDeletionJob {
+
+    private final AccountDeletionService accountDeletionService;
+
+    @Scheduled(fixedDelayString = "${app.account-deletion.interval-ms:10000}")
+    public void run() {
+        try {
+            accountDeletionService.processPending();
+        } catch (RuntimeException e) {
+            log.error("Account deletion failed", e);
+        }
+    }
+}
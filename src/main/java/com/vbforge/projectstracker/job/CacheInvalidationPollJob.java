@@ -0,0 +1,39 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.CacheInvalidationBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers other nodes' cache invalidations; how stale a node can be is bounded by the poll interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPollJob {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Scheduled(fixedDelayString = "${app.cache-bus.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            cacheInvalidationBus.poll();
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation poll failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-bus.purge-interval-ms:60000}")
+    public void purge() {
+        try {
+            int deleted = cacheInvalidationBus.purge();
+            log.debug("Purged {} cache invalidations", deleted);
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation purge failed", e);
+        }
+    }
+}
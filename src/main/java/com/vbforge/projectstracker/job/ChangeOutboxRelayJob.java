@@ -0,0 +1,52 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays the change outbox: full batches are followed by the next one right away, up to
+ * max-batches per run, so a backlog drains without holding one long transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeOutboxRelayJob {
+
+    private final ChangeOutbox changeOutbox;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-run:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                if (changeOutbox.relay() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The failed batch stays unpublished and is delivered again by the next run
+            log.error("Change outbox relay failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        try {
+            int deleted = changeOutbox.purge();
+            log.info("Purged {} published outbox events", deleted);
+        } catch (RuntimeException e) {
+            log.error("Change outbox purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.LiveUpdateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps idle live update streams open; proxies commonly drop connections silent for 30-60s.
+ * A failed heartbeat also detects closed tabs so their emitters are released.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateHeartbeatJob {
+
+    private final LiveUpdateService liveUpdateService;
+
+    @Scheduled(fixedDelayString = "${app.live-updates.heartbeat-interval-ms:25000}")
+    public void run() {
+        liveUpdateService.sendHeartbeat();
+    }
+}
@@ -0,0 +1,34 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.ProjectActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Nightly compaction of the project activity log: days older than raw-retention-days are folded
+ * into daily counts. A failed run leaves the remaining days for the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectActivityCompactionJob {
+
+    private final ProjectActivityService projectActivityService;
+
+    @Value("${app.activity.raw-retention-days:90}")
+    private int rawRetentionDays;
+
+    @Scheduled(cron = "${app.activity.compaction-cron:0 0 4 * * *}")
+    public void run() {
+        try {
+            projectActivityService.compact(LocalDate.now().minusDays(rawRetentionDays));
+        } catch (RuntimeException e) {
+            log.error("Project activity compaction failed", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.repository.CachingPersistentTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Writes batched remember-me token rotations and purges tokens that can no longer log anyone in.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RememberMeTokenJob {
+
+    private final CachingPersistentTokenRepository tokenRepository;
+
+    @Value("${app.remember-me.validity:30d}")
+    private Duration validity;
+
+    @Value("${app.remember-me.cleanup-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(fixedDelayString = "${app.remember-me.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            tokenRepository.flush();
+        } catch (RuntimeException e) {
+            log.error("Remember-me token flush failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.remember-me.cleanup-cron:0 45 3 * * *}")
+    public void removeExpired() {
+        try {
+            int deleted = tokenRepository.removeExpiredTokens(Date.from(Instant.now().minus(validity)), chunkSize);
+            log.info("Removed {} expired remember-me tokens", deleted);
+        } catch (RuntimeException e) {
+            log.error("Remember-me token cleanup failed", e);
+        }
+    }
+}
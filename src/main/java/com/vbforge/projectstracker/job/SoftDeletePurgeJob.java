@@ -0,0 +1,28 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes soft-deleted projects and tags once their undo window has passed. Every chunk commits
+ * on its own, so a failed run only leaves the rest for the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeletePurgeJob {
+
+    private final SoftDeleteService softDeleteService;
+
+    @Scheduled(fixedDelayString = "${app.soft-delete.purge-interval-ms:60000}")
+    public void run() {
+        try {
+            softDeleteService.purgeExpired();
+        } catch (RuntimeException e) {
+            log.error("Soft delete purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.StaleProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the stale-project queues; the first run right after startup fills them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleProjectScanJob {
+
+    private final StaleProjectService staleProjectService;
+
+    @Scheduled(fixedDelayString = "${app.stale-projects.scan-interval-ms:900000}")
+    public void scan() {
+        try {
+            staleProjectService.scan();
+        } catch (RuntimeException e) {
+            log.error("Stale project scan failed", e);
+        }
+    }
+}
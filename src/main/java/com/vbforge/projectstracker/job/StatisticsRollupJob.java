@@ -0,0 +1,28 @@
+package com.vbforge.projectstracker.job;
+
+import com.vbforge.projectstracker.service.StatisticsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly statistics rollup. Runs shortly after midnight so "yesterday" is a closed day;
+ * a run that failed or was missed is caught up by the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupJob {
+
+    private final StatisticsRollupService statisticsRollupService;
+
+    @Scheduled(cron = "${app.statistics.rollup-cron:0 15 0 * * *}")
+    public void run() {
+        try {
+            statisticsRollupService.rollup();
+        } catch (RuntimeException e) {
+            log.error("Statistics rollup job failed", e);
+        }
+    }
+}
@@ -30,6 +30,18 @@ public class ProjectMapper {
      * @return the DTO
      */
     public ProjectDTO toDTO(Project project) {
+        return toDTO(project, LocalDate.now());
+    }
+
+    /**
+     * Convert Project entity to ProjectDTO, with days-since-last-worked counted up to the given day
+     * (lists pass the same day for every project)
+     *
+     * @param project the entity
+     * @param today   the day daysSinceLastWorked is counted to
+     * @return the DTO
+     */
+    public ProjectDTO toDTO(Project project, LocalDate today) {
         if (project == null) {
             return null;
         }
@@ -47,7 +59,7 @@ public class ProjectMapper {
                 : Set.of();
 
         Long daysSince = project.getLastWorkedOn() != null
-                ? ChronoUnit.DAYS.between(project.getLastWorkedOn().toLocalDate(), LocalDate.now())
+                ? ChronoUnit.DAYS.between(project.getLastWorkedOn().toLocalDate(), today)
                 : null;
 
         return ProjectDTO.builder()
@@ -22,6 +22,21 @@ public class TagMapper {
         }
 
         Integer projectCount = tag.getProjects() != null ? tag.getProjects().size() : 0;
+        return toDTO(tag, projectCount);
+    }
+
+    /**
+     * Convert Tag entity to TagDTO with a project count computed elsewhere (e.g. a GROUP BY query),
+     * so the lazy projects collection is never loaded
+     *
+     * @param tag the entity
+     * @param projectCount number of projects using the tag
+     * @return the DTO
+     */
+    public TagDTO toDTO(Tag tag, Integer projectCount) {
+        if (tag == null) {
+            return null;
+        }
 
         // Using builder (if TagDTO has Lombok @Builder)
         return TagDTO.builder()
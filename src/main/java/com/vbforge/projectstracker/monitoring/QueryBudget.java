@@ -0,0 +1,20 @@
+package com.vbforge.projectstracker.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a handler may issue per request,
+ * view rendering included. Exceeding it is logged and counted
+ * (tracker.query.budget.exceeded) and fails the query budget integration test.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
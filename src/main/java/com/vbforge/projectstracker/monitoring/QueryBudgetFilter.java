@@ -0,0 +1,102 @@
+package com.vbforge.projectstracker.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements issued while serving a request (view rendering included),
+ * records them per endpoint and checks them against the handler's {@link QueryBudget}.
+ *
+ * With the count header enabled (dev/test) the response is buffered so that
+ * X-Query-Count / X-Query-Budget can still be set after the view has been rendered.
+ * Streaming responses are never buffered.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String BUDGET_HEADER = "X-Query-Budget";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeader;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, boolean exposeHeader) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        AtomicInteger counter = QueryCountHolder.start();
+        ContentCachingResponseWrapper buffered = exposeHeader && !isStreaming(request)
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            QueryCountHolder.clear();
+            int queries = counter.get();
+            Integer budget = (Integer) request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+            String endpoint = endpoint(request);
+
+            record(request.getMethod(), endpoint, queries, budget);
+
+            if (buffered != null) {
+                if (!request.isAsyncStarted()) {
+                    buffered.setHeader(COUNT_HEADER, String.valueOf(queries));
+                    if (budget != null) {
+                        buffered.setHeader(BUDGET_HEADER, String.valueOf(budget));
+                    }
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(String method, String endpoint, int queries, Integer budget) {
+        DistributionSummary.builder("tracker.http.queries")
+                .description("SQL statements per request")
+                .tag("method", method)
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (budget != null && queries > budget) {
+            log.warn("Query budget exceeded for {} {}: {} statements (budget {})", method, endpoint, queries, budget);
+            Counter.builder("tracker.query.budget.exceeded")
+                    .description("Requests that issued more SQL statements than their declared budget")
+                    .tag("method", method)
+                    .tag("uri", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+        } else {
+            log.debug("{} {} issued {} SQL statements", method, endpoint, queries);
+        }
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
@@ -0,0 +1,25 @@
+package com.vbforge.projectstracker.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Exposes the {@link QueryBudget} of the selected handler to QueryBudgetFilter
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".BUDGET";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+            }
+        }
+        return true;
+    }
+}
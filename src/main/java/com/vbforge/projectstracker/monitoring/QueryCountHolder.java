@@ -0,0 +1,55 @@
+package com.vbforge.projectstracker.monitoring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request-scoped SQL statement counter.
+ * QueryBudgetFilter opens a counter per request; the Hibernate statement inspector
+ * increments whatever counter is bound to the current thread.
+ * Work handed off to other threads can share the same counter via {@link #bind}.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    /**
+     * Bind a fresh counter to the current thread and return it
+     */
+    public static AtomicInteger start() {
+        AtomicInteger counter = new AtomicInteger();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * Counter bound to the current thread, or null outside a counted request
+     */
+    public static AtomicInteger current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind an existing counter (e.g. captured on the request thread) to the current thread
+     */
+    public static void bind(AtomicInteger counter) {
+        if (counter == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void increment() {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.vbforge.projectstracker.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every call to the core services (projects, tags, statistics, export)
+ * and counts failures.
+ *
+ * Meters:
+ *  - tracker.service           timer   tags: service, method, outcome (success|error)
+ *  - tracker.service.errors    counter tags: service, method, exception
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String TIMER_NAME = "tracker.service";
+    static final String ERROR_COUNTER_NAME = "tracker.service.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.vbforge.projectstracker.service.ProjectService.*(..)) || " +
+            "execution(* com.vbforge.projectstracker.service.TagService.*(..)) || " +
+            "execution(* com.vbforge.projectstracker.service.StatisticsService.*(..)) || " +
+            "execution(* com.vbforge.projectstracker.service.ExportService.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = "error";
+            Counter.builder(ERROR_COUNTER_NAME)
+                    .description("Failed service calls")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Service method execution time")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
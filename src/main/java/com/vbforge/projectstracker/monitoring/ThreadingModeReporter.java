@@ -0,0 +1,45 @@
+package com.vbforge.projectstracker.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether requests run on virtual or platform threads (virtual-threads profile),
+ * as a startup log line and the gauge tracker.threads.virtual (1 / 0),
+ * so load-test results can always be matched to the mode they were measured in.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThreadingModeReporter {
+
+    static final String GAUGE_NAME = "tracker.threads.virtual";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+
+        Gauge.builder(GAUGE_NAME, () -> virtual ? 1 : 0)
+                .description("1 when request handling runs on virtual threads")
+                .register(meterRegistry);
+
+        if (virtual) {
+            log.info("Request handling runs on virtual threads (Java {})", Runtime.version().feature());
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads - using platform threads",
+                    Runtime.version().feature());
+        } else {
+            log.info("Request handling runs on platform threads");
+        }
+    }
+}
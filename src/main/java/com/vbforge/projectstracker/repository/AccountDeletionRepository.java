@@ -0,0 +1,13 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.AccountDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, Long> {
+
+    List<AccountDeletion> findByCompletedAtIsNullOrderByRequestedAtAsc();
+}
@@ -0,0 +1,24 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.ActivityCalendar;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ActivityCalendarRepository extends JpaRepository<ActivityCalendar, Long> {
+
+    List<ActivityCalendar> findByOwnerIdAndYearBetween(Long ownerId, int fromYear, int toYear);
+
+    // Locked: relays on two instances must not overwrite each other's increments
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ActivityCalendar c WHERE c.ownerId IN :ownerIds AND c.year IN :years")
+    List<ActivityCalendar> findForUpdate(@Param("ownerIds") Collection<Long> ownerIds,
+                                         @Param("years") Collection<Integer> years);
+}
@@ -0,0 +1,291 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.RememberMeTokenChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remember-me tokens (persistent_logins) with series lookups served from memory.
+ *
+ * Creating and removing tokens writes through; the per-request token rotation only updates the
+ * cached token and is written to the database in batches by {@link #flush()}. Losing unflushed
+ * rotations (crash) fails closed: the browser presents a token newer than the stored one, which
+ * Spring Security treats as cookie theft and answers by removing all of the user's tokens.
+ *
+ * With several instances (app.cache-bus.enabled) another instance would read an unflushed token
+ * from the database and take the next remember-me login for cookie theft, so rotations write
+ * through instead. Rotations and removals are then announced on the cache invalidation bus, and
+ * the other instances drop their cached copies. app.remember-me.cache.enabled=false turns the
+ * cache off altogether.
+ */
+@Slf4j
+@Repository
+public class CachingPersistentTokenRepository implements PersistentTokenRepository, DisposableBean {
+
+    static final String INSERT_SQL = "INSERT INTO persistent_logins (username, series, token, last_used) VALUES (?, ?, ?, ?)";
+    static final String SELECT_SQL = "SELECT username, series, token, last_used FROM persistent_logins WHERE series = ?";
+    static final String UPDATE_SQL = "UPDATE persistent_logins SET token = ?, last_used = ? WHERE series = ?";
+    static final String DELETE_USER_SQL = "DELETE FROM persistent_logins WHERE username = ?";
+    static final String SELECT_EXPIRED_SQL = "SELECT series FROM persistent_logins WHERE last_used < ?";
+    // last_used is checked again in case the token was used between the select and the delete
+    static final String DELETE_EXPIRED_SQL = "DELETE FROM persistent_logins WHERE series = ? AND last_used < ?";
+
+    private final Map<String, PersistentRememberMeToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, PersistentRememberMeToken> pending = new ConcurrentHashMap<>();
+    // Guards cache changes that race with removeUserTokens (logout, theft detection)
+    private final Object lock = new Object();
+    // Serializes flushes so an older batch never lands after a newer one. Not a monitor: the
+    // scheduler may run on virtual threads, which a synchronized block would pin across the JDBC batch
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private long removals;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxCached;
+    private final boolean caching;
+    private final boolean writeBehind;
+
+    public CachingPersistentTokenRepository(JdbcTemplate jdbcTemplate,
+                                            ApplicationEventPublisher eventPublisher,
+                                            @Value("${app.remember-me.max-cached:10000}") int maxCached,
+                                            @Value("${app.remember-me.cache.enabled:true}") boolean caching,
+                                            @Value("${app.cache-bus.enabled:true}") boolean multipleInstances) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxCached = maxCached;
+        this.caching = caching;
+        this.writeBehind = caching && !multipleInstances;
+        log.info("Remember-me token cache {}", !caching ? "disabled"
+                : writeBehind ? "enabled, rotations written in batches" : "enabled, rotations written through");
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        jdbcTemplate.update(INSERT_SQL, token.getUsername(), token.getSeries(), token.getTokenValue(),
+                new Timestamp(token.getDate().getTime()));
+        if (!caching) {
+            return;
+        }
+        synchronized (lock) {
+            tokens.put(token.getSeries(), token);
+            trim();
+        }
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        if (writeBehind) {
+            synchronized (lock) {
+                PersistentRememberMeToken current = tokens.get(series);
+                if (current != null) {
+                    PersistentRememberMeToken updated = new PersistentRememberMeToken(current.getUsername(), series, tokenValue, lastUsed);
+                    tokens.put(series, updated);
+                    pending.put(series, updated);
+                    return;
+                }
+            }
+        }
+        // Not cached, evicted, already removed or several instances: write through
+        // (a removed series updates no rows)
+        jdbcTemplate.update(UPDATE_SQL, tokenValue, new Timestamp(lastUsed.getTime()), series);
+        if (caching) {
+            synchronized (lock) {
+                tokens.computeIfPresent(series, (key, current) ->
+                        new PersistentRememberMeToken(current.getUsername(), key, tokenValue, lastUsed));
+            }
+        }
+        eventPublisher.publishEvent(RememberMeTokenChangedEvent.rotated(series));
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        PersistentRememberMeToken token = tokens.get(seriesId);
+        if (token != null) {
+            return token;
+        }
+        long removalsBefore;
+        synchronized (lock) {
+            removalsBefore = removals;
+        }
+        try {
+            List<PersistentRememberMeToken> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new PersistentRememberMeToken(rs.getString(1), rs.getString(2),
+                            rs.getString(3), rs.getTimestamp(4)),
+                    seriesId);
+            if (rows.isEmpty()) {
+                log.debug("Querying token for series '{}' returned no results", seriesId);
+                return null;
+            }
+            token = rows.get(0);
+        } catch (DataAccessException e) {
+            log.error("Failed to load token for series {}", seriesId, e);
+            return null;
+        }
+        if (!caching) {
+            return token;
+        }
+        synchronized (lock) {
+            // Tokens removed while we were reading must not come back through the cache
+            if (removals != removalsBefore) {
+                return token;
+            }
+            // A concurrent rotation may have cached a newer value meanwhile
+            PersistentRememberMeToken existing = tokens.putIfAbsent(seriesId, token);
+            if (existing != null) {
+                return existing;
+            }
+            trim();
+        }
+        return token;
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        jdbcTemplate.update(DELETE_USER_SQL, username);
+        synchronized (lock) {
+            removals++;
+            // A pending flush of these series updates no rows, so nothing is resurrected
+            tokens.values().removeIf(token -> token.getUsername().equals(username));
+            pending.values().removeIf(token -> token.getUsername().equals(username));
+        }
+        eventPublisher.publishEvent(RememberMeTokenChangedEvent.removed(username));
+    }
+
+    // Rotations and removals on other instances (CacheInvalidationBus)
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() != CacheRegion.TOKEN_SERIES && event.region() != CacheRegion.TOKEN_USER) {
+            return;
+        }
+        synchronized (lock) {
+            // A lookup reading the database meanwhile must not cache what it read
+            removals++;
+            if (event.region() == CacheRegion.TOKEN_SERIES) {
+                tokens.remove(event.entityKey());
+            } else {
+                tokens.values().removeIf(token -> token.getUsername().equals(event.entityKey()));
+            }
+        }
+    }
+
+    /**
+     * Writes the pending token rotations in one batch.
+     *
+     * @return the number of tokens written
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushPending() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<PersistentRememberMeToken> batch = new ArrayList<>(pending.size());
+        for (String series : List.copyOf(pending.keySet())) {
+            PersistentRememberMeToken token = pending.remove(series);
+            if (token != null) {
+                batch.add(token);
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, token) -> {
+                ps.setString(1, token.getTokenValue());
+                ps.setTimestamp(2, new Timestamp(token.getDate().getTime()));
+                ps.setString(3, token.getSeries());
+            });
+        } catch (DataAccessException e) {
+            // Retry on the next flush unless a newer rotation is already waiting
+            batch.forEach(token -> pending.putIfAbsent(token.getSeries(), token));
+            throw e;
+        }
+        log.debug("Flushed {} remember-me token updates", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Deletes tokens last used before the cutoff, at most chunkSize rows per statement batch,
+     * so a large backlog never holds long locks on persistent_logins.
+     *
+     * @return the number of tokens deleted
+     */
+    public int removeExpiredTokens(Date cutoff, int chunkSize) {
+        // The database must see the latest last_used before deciding what expired
+        flush();
+        Timestamp before = new Timestamp(cutoff.getTime());
+        int deleted = 0;
+
+        while (true) {
+            List<String> series = jdbcTemplate.query(SELECT_EXPIRED_SQL,
+                    ps -> {
+                        ps.setTimestamp(1, before);
+                        ps.setMaxRows(chunkSize);
+                    },
+                    (rs, rowNum) -> rs.getString(1));
+            if (series.isEmpty()) {
+                break;
+            }
+            int[][] counts = jdbcTemplate.batchUpdate(DELETE_EXPIRED_SQL, series, series.size(), (ps, id) -> {
+                ps.setString(1, id);
+                ps.setTimestamp(2, before);
+            });
+            synchronized (lock) {
+                series.forEach(tokens::remove);
+            }
+            int chunkDeleted = 0;
+            for (int[] chunk : counts) {
+                for (int count : chunk) {
+                    chunkDeleted += Math.max(count, 0);
+                }
+            }
+            deleted += chunkDeleted;
+            if (series.size() < chunkSize || chunkDeleted == 0) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    int cachedCount() {
+        return tokens.size();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    // Crude bound: drop flushed entries once the cache is over its size, they reload on demand
+    private void trim() {
+        if (tokens.size() <= maxCached) {
+            return;
+        }
+        tokens.keySet().removeIf(series -> !pending.containsKey(series) && tokens.size() > maxCached / 2);
+    }
+}
@@ -0,0 +1,34 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.DailyStatistics;
+import com.vbforge.projectstracker.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics, Long> {
+
+    List<DailyStatistics> findByOwnerAndStatDateBetween(User owner, LocalDate from, LocalDate to);
+
+    // Latest snapshot of the owner
+    Optional<DailyStatistics> findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(User owner);
+
+    // [statDate, createdCount] for days with created projects
+    @Query("SELECT d.statDate, d.createdCount FROM DailyStatistics d " +
+            "WHERE d.owner = :owner AND d.statDate BETWEEN :from AND :to AND d.createdCount > 0")
+    List<Object[]> findCreatedCounts(@Param("owner") User owner,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    // [ownerId, totalProjects] of every owner's latest snapshot
+    @Query("SELECT d.owner.id, d.totalProjects FROM DailyStatistics d " +
+            "WHERE d.totalProjects IS NOT NULL AND d.statDate = (" +
+            "SELECT MAX(d2.statDate) FROM DailyStatistics d2 WHERE d2.owner = d.owner AND d2.totalProjects IS NOT NULL)")
+    List<Object[]> findLatestSnapshotTotals();
+}
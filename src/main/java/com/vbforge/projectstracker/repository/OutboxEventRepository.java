@@ -0,0 +1,40 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Locked, so a second instance relaying at the same time waits instead of delivering the batch twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    // Single row retry; locked like the batch select
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OutboxEvent> findByIdAndPublishedAtIsNull(Long id);
+
+    long countByPublishedAtIsNull();
+
+    long countByFailedAtIsNotNull();
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
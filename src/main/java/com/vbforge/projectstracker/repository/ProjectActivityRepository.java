@@ -0,0 +1,31 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.ProjectActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProjectActivityRepository extends JpaRepository<ProjectActivity, Long> {
+
+    // [day, events] of the raw (not yet compacted) activity in [from, to)
+    @Query("SELECT CAST(a.occurredAt AS LocalDate), COUNT(a) FROM ProjectActivity a " +
+            "WHERE a.ownerId = :ownerId AND a.occurredAt >= :from AND a.occurredAt < :to " +
+            "GROUP BY CAST(a.occurredAt AS LocalDate)")
+    List<Object[]> countPerDay(@Param("ownerId") Long ownerId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to);
+
+    // [day, events] of the compacted activity in [from, to]
+    @Query("SELECT d.activityDate, SUM(d.eventCount) FROM ProjectActivityDay d " +
+            "WHERE d.ownerId = :ownerId AND d.activityDate BETWEEN :from AND :to " +
+            "GROUP BY d.activityDate")
+    List<Object[]> sumCompactedPerDay(@Param("ownerId") Long ownerId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
@@ -3,17 +3,21 @@ package com.vbforge.projectstracker.repository;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectTimelineRepository {
 
     // All queries scoped to owner
     List<Project> findAllByOwner(User owner);
@@ -32,6 +36,9 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findAllByOwnerOrderByLastWorkedOnDesc(User owner);
 
+    // Most recently worked first, LIMIT via pageable (statistics activity)
+    List<Project> findByOwnerOrderByLastWorkedOnDescIdDesc(User owner, Pageable pageable);
+
     List<Project> findAllByOwnerOrderByCreatedDateDesc(User owner);
 
     // Count queries
@@ -62,4 +69,96 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             @Param("onGithub") Boolean onGithub,
             @Param("tagName") String tagName
     );
-}
\ No newline at end of file
+
+    // REST API (ProjectApiController): keyset pagination by id, same filters as searchProjects
+    @Query("SELECT p FROM Project p " +
+            "WHERE p.owner = :owner AND (:after IS NULL OR p.id > :after) " +
+            "AND (:title IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:onGithub IS NULL OR p.onGithub = :onGithub) " +
+            "AND (:tagName IS NULL OR EXISTS (SELECT 1 FROM Tag t JOIN t.projects tp WHERE tp = p AND t.name = :tagName)) " +
+            "ORDER BY p.id ASC")
+    List<Project> findPageByOwner(
+            @Param("owner") User owner,
+            @Param("after") Long after,
+            @Param("title") String title,
+            @Param("status") ProjectStatus status,
+            @Param("onGithub") Boolean onGithub,
+            @Param("tagName") String tagName,
+            Pageable pageable
+    );
+
+    List<Project> findAllByIdInAndOwner(Collection<Long> ids, User owner);
+
+    // Conditional GET: version columns only, no entity hydration
+    @Query("SELECT p.updatedAt, MAX(t.updatedAt), COUNT(t) FROM Project p LEFT JOIN p.tags t " +
+            "WHERE p.id = :id AND p.owner = :owner GROUP BY p.id, p.updatedAt")
+    List<Object[]> findVersionColumns(@Param("id") Long id, @Param("owner") User owner);
+
+    // Statistics rollup (StatisticsRollupService)
+    @Query("SELECT DISTINCT p.owner.id FROM Project p WHERE p.updatedAt >= :since OR p.createdDate >= :since")
+    List<Long> findOwnerIdsChangedSince(@Param("since") LocalDateTime since);
+
+    // [ownerId, projectCount]
+    @Query("SELECT p.owner.id, COUNT(p) FROM Project p GROUP BY p.owner.id")
+    List<Object[]> countProjectsPerOwner();
+
+    // [day, count] of projects created in [from, to)
+    @Query("SELECT CAST(p.createdDate AS LocalDate), COUNT(p) FROM Project p " +
+            "WHERE p.owner = :owner AND p.createdDate >= :from AND p.createdDate < :to " +
+            "GROUP BY CAST(p.createdDate AS LocalDate)")
+    List<Object[]> countCreatedPerDay(@Param("owner") User owner,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    // [day, count] of projects last worked on in [from, to)
+    @Query("SELECT CAST(p.lastWorkedOn AS LocalDate), COUNT(p) FROM Project p " +
+            "WHERE p.owner = :owner AND p.lastWorkedOn >= :from AND p.lastWorkedOn < :to " +
+            "GROUP BY CAST(p.lastWorkedOn AS LocalDate)")
+    List<Object[]> countLastWorkedPerDay(@Param("owner") User owner,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    // [status, onGithub, lastWorkedOn] of every project - snapshot input without loading entities
+    @Query("SELECT p.status, p.onGithub, p.lastWorkedOn FROM Project p WHERE p.owner = :owner")
+    List<Object[]> findSnapshotColumnsByOwner(@Param("owner") User owner);
+
+    // [tagName, projectCount]
+    @Query("SELECT t.name, COUNT(p) FROM Project p JOIN p.tags t WHERE p.owner = :owner GROUP BY t.name")
+    List<Object[]> countProjectsPerTag(@Param("owner") User owner);
+
+    @Query("SELECT p.createdDate FROM Project p WHERE p.owner = :owner AND p.createdDate >= :from")
+    List<LocalDateTime> findCreatedDatesSince(@Param("owner") User owner, @Param("from") LocalDateTime from);
+
+    boolean existsByOwnerAndUpdatedAtAfter(User owner, LocalDateTime after);
+
+    // Keyset page in (lastWorkedOn, id) order over idx_projects_last_worked:
+    // [id, ownerId, title, status, lastWorkedOn] of the projects in the given statuses after the cursor
+    @Query("SELECT p.id, p.owner.id, p.title, p.status, p.lastWorkedOn FROM Project p " +
+            "WHERE p.status IN :statuses " +
+            "AND (p.lastWorkedOn > :after OR (p.lastWorkedOn = :after AND p.id > :afterId)) " +
+            "ORDER BY p.lastWorkedOn, p.id")
+    List<Object[]> findLastWorkedPage(@Param("statuses") Collection<ProjectStatus> statuses,
+                                      @Param("after") LocalDateTime after,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+
+    // Soft delete (ProjectService): the event's [title, status, onGithub] and tag names, no entity hydration
+    @Query("SELECT p.title, p.status, p.onGithub FROM Project p WHERE p.id = :id AND p.owner = :owner")
+    List<Object[]> findDeleteColumns(@Param("id") Long id, @Param("owner") User owner);
+
+    @Query("SELECT t.name FROM Project p JOIN p.tags t WHERE p.id = :id")
+    List<String> findTagNames(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.deletedAt = :now, p.updatedAt = :now " +
+            "WHERE p.id IN :ids AND p.owner = :owner AND p.deletedAt IS NULL")
+    int softDelete(@Param("ids") Collection<Long> ids, @Param("owner") User owner, @Param("now") LocalDateTime now);
+
+    // Undo: native, the entity restriction hides deleted rows
+    @Modifying
+    @Query(value = "UPDATE projects SET deleted_at = NULL, updated_at = :now " +
+            "WHERE id = :id AND user_id = :ownerId AND deleted_at >= :since", nativeQuery = true)
+    int restore(@Param("id") Long id, @Param("ownerId") Long ownerId,
+                @Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineField;
+import com.vbforge.projectstracker.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Time-bucket aggregation of projects (fragment of ProjectRepository)
+ */
+public interface ProjectTimelineRepository {
+
+    /**
+     * Count the owner's projects per bucket with one GROUP BY over the given date in [from, to).
+     * @return bucket start day -> count, only buckets with at least one project
+     */
+    Map<LocalDate, Long> countPerBucket(User owner, TimelineField field, TimeBucket bucket,
+                                                  LocalDateTime from, LocalDateTime to);
+}
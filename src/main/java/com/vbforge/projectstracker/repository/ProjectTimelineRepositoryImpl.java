@@ -0,0 +1,62 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineField;
+import com.vbforge.projectstracker.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the GROUP BY per bucket size. Served by the (user_id, created_date) and
+ * (user_id, last_worked_on) indexes on projects.
+ *
+ * Day and week buckets group by calendar day (weeks are folded here - at most 7 rows per bucket),
+ * because SQL week numbering differs between MySQL and H2. Months and quarters group by
+ * year + month / quarter directly, so multi-year ranges return one row per bucket.
+ */
+public class ProjectTimelineRepositoryImpl implements ProjectTimelineRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<LocalDate, Long> countPerBucket(User owner, TimelineField field, TimeBucket bucket,
+                                               LocalDateTime from, LocalDateTime to) {
+        String column = "p." + field.getProperty();
+        String groupBy = switch (bucket) {
+            case DAY, WEEK -> "cast(" + column + " as LocalDate)";
+            case MONTH -> "extract(year from " + column + "), extract(month from " + column + ")";
+            case QUARTER -> "extract(year from " + column + "), extract(quarter from " + column + ")";
+        };
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "select " + groupBy + ", count(p) from Project p " +
+                                "where p.owner = :owner and " + column + " >= :from and " + column + " < :to " +
+                                "group by " + groupBy, Object[].class)
+                .setParameter("owner", owner)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            LocalDate start = switch (bucket) {
+                case DAY, WEEK -> bucket.start((LocalDate) row[0]);
+                case MONTH -> LocalDate.of(toInt(row[0]), toInt(row[1]), 1);
+                case QUARTER -> LocalDate.of(toInt(row[0]), (toInt(row[1]) - 1) * 3 + 1, 1);
+            };
+            counts.merge(start, (Long) row[row.length - 1], Long::sum);
+        }
+        return counts;
+    }
+
+    private static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+}
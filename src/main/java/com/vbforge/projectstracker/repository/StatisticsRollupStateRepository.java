@@ -0,0 +1,9 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.entity.StatisticsRollupState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatisticsRollupStateRepository extends JpaRepository<StatisticsRollupState, Integer> {
+}
@@ -1,12 +1,17 @@
 package com.vbforge.projectstracker.repository;
 
+import com.vbforge.projectstracker.dto.TagUsageDTO;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,11 +36,59 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
             "GROUP BY t ORDER BY COUNT(p) DESC")
     List<Tag> findAllByOwnerOrderByProjectCountDesc(@Param("owner") User owner);
 
-    // Tags with at least one project
-    @Query("SELECT DISTINCT t FROM Tag t WHERE t.owner = :owner AND SIZE(t.projects) > 0")
+    // Tag usage ranking in SQL: GROUP BY tag, most used first, LIMIT via pageable
+    @Query("SELECT new com.vbforge.projectstracker.dto.TagUsageDTO(t.id, t.name, t.color, COUNT(p)) " +
+            "FROM Tag t LEFT JOIN t.projects p WHERE t.owner = :owner " +
+            "GROUP BY t.id, t.name, t.color ORDER BY COUNT(p) DESC, t.name ASC")
+    List<TagUsageDTO> findTagUsageByOwner(@Param("owner") User owner, Pageable pageable);
+
+    List<Tag> findAllByIdInAndOwner(Collection<Long> ids, User owner);
+
+    // Conditional GET: version columns only, no entity hydration
+    @Query("SELECT t.updatedAt, COUNT(p) FROM Tag t LEFT JOIN t.projects p " +
+            "WHERE t.id = :id AND t.owner = :owner GROUP BY t.id, t.updatedAt")
+    List<Object[]> findVersionColumns(@Param("id") Long id, @Param("owner") User owner);
+
+    // Tags with at least one project (EXISTS over Project, not SIZE(): SIZE counts links of deleted projects)
+    @Query("SELECT t FROM Tag t WHERE t.owner = :owner " +
+            "AND EXISTS (SELECT 1 FROM Project p JOIN p.tags pt WHERE pt = t)")
     List<Tag> findTagsWithProjectsByOwner(@Param("owner") User owner);
 
     // Unused tags
-    @Query("SELECT t FROM Tag t WHERE t.owner = :owner AND SIZE(t.projects) = 0")
+    @Query("SELECT t FROM Tag t WHERE t.owner = :owner " +
+            "AND NOT EXISTS (SELECT 1 FROM Project p JOIN p.tags pt WHERE pt = t)")
     List<Tag> findUnusedTagsByOwner(@Param("owner") User owner);
+
+    // Statistics rollup: owners whose tags changed (tag usage is keyed by name)
+    @Query("SELECT DISTINCT t.owner.id FROM Tag t WHERE t.updatedAt >= :since")
+    List<Long> findOwnerIdsChangedSince(@Param("since") LocalDateTime since);
+
+    // Soft delete (TagService): the event's [name, color], no entity hydration
+    @Query("SELECT t.name, t.color FROM Tag t WHERE t.id = :id AND t.owner = :owner")
+    List<Object[]> findDeleteColumns(@Param("id") Long id, @Param("owner") User owner);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.deletedAt = :now, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.owner = :owner AND t.deletedAt IS NULL")
+    int softDelete(@Param("id") Long id, @Param("owner") User owner, @Param("now") LocalDateTime now);
+
+    // Undo and name reuse: native, the entity restriction hides deleted rows
+    @Modifying
+    @Query(value = "UPDATE tags SET deleted_at = NULL, updated_at = :now " +
+            "WHERE id = :id AND user_id = :ownerId AND deleted_at >= :since", nativeQuery = true)
+    int restore(@Param("id") Long id, @Param("ownerId") Long ownerId,
+                @Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // A deleted tag keeps its name (unique per owner) until it is purged
+    @Query(value = "SELECT COUNT(*) FROM tags WHERE name = :name AND user_id = :ownerId AND deleted_at >= :since",
+            nativeQuery = true)
+    long countRestorableByName(@Param("name") String name, @Param("ownerId") Long ownerId,
+                               @Param("since") LocalDateTime since);
+
+    // Past the undo window: move the name out of the way, the purge job still removes the row and its links
+    @Modifying
+    @Query(value = "UPDATE tags SET name = CONCAT('~purged-', id) " +
+            "WHERE name = :name AND user_id = :ownerId AND deleted_at < :since", nativeQuery = true)
+    int renameExpired(@Param("name") String name, @Param("ownerId") Long ownerId,
+                      @Param("since") LocalDateTime since);
 }
@@ -2,6 +2,9 @@ package com.vbforge.projectstracker.repository;
 
 import com.vbforge.projectstracker.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,4 +20,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    // Single-row increment; the row lock orders concurrent writers of the same user
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :id")
+    int incrementDataVersion(@Param("id") Long id);
+
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersionById(@Param("id") Long id);
+
+    // Account deletion: no more logins while the data is being removed
+    @Modifying
+    @Query("UPDATE User u SET u.enabled = false WHERE u.id = :id")
+    int disable(@Param("id") Long id);
+
 }
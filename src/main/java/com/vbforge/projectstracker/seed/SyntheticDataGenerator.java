@@ -0,0 +1,232 @@
+package com.vbforge.projectstracker.seed;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates realistic volumes of users, tags, projects and tag links for load testing.
+ * Rows are written with batched JDBC inserts (one transaction per user) instead of JPA,
+ * so large datasets can be produced in seconds.
+ *
+ * Distributions:
+ *  - projects per user: log-normal around the configured median (long tail of heavy users)
+ *  - tags per user: grows with the project count
+ *  - tags per project: 0-5, mostly 1-2; tag popularity is Zipf-like (a few tags dominate)
+ *  - status: 30% not started / 45% in progress / 25% done, 60% on GitHub
+ *  - created within the last 3 years, last worked between creation and now, skewed to recent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String[] WORDS = {
+            "spring", "tracker", "api", "cli", "parser", "dashboard", "export", "sync", "engine",
+            "widget", "service", "plugin", "client", "report", "cache", "agent", "bot", "portal"
+    };
+    private static final double[] TAGS_PER_PROJECT_WEIGHTS = {0.20, 0.35, 0.25, 0.12, 0.06, 0.02};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Settings for one generation run
+     *
+     * @param users          number of users to create (existing usernames are skipped)
+     * @param usernamePrefix users are named prefix1..prefixN
+     * @param password       shared plain-text password of all generated users
+     * @param medianProjects median number of projects per user
+     * @param maxProjects    upper bound of projects per user
+     * @param seed           random seed, same seed -> same dataset
+     */
+    public record Spec(int users, String usernamePrefix, String password,
+                       int medianProjects, int maxProjects, long seed) {
+    }
+
+    public record Result(int users, long projects, long tags, long tagLinks) {
+    }
+
+    public Result generate(Spec spec) {
+        log.info("Generating synthetic data: {}", spec);
+        long started = System.currentTimeMillis();
+
+        Random random = new Random(spec.seed());
+        // Hash once - BCrypt per user would dominate the run time
+        String passwordHash = passwordEncoder.encode(spec.password());
+
+        int users = 0;
+        long projects = 0, tags = 0, links = 0;
+
+        for (int i = 1; i <= spec.users(); i++) {
+            String username = spec.usernamePrefix() + i;
+            int projectCount = projectCount(random, spec);
+            int tagCount = Math.min(60, 5 + projectCount / 8);
+
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, username);
+            if (existing != null && existing > 0) {
+                log.debug("User {} already exists, skipping", username);
+                continue;
+            }
+
+            long[] created = transactionTemplate.execute(status ->
+                    generateUser(username, passwordHash, projectCount, tagCount, random));
+
+            users++;
+            projects += created[0];
+            tags += created[1];
+            links += created[2];
+
+            if (i % 50 == 0) {
+                log.info("Generated {}/{} users", i, spec.users());
+            }
+        }
+
+        Result result = new Result(users, projects, tags, links);
+        log.info("Synthetic data generated in {} ms: {}", System.currentTimeMillis() - started, result);
+        return result;
+    }
+
+    private long[] generateUser(String username, String passwordHash, int projectCount, int tagCount, Random random) {
+        LocalDateTime now = LocalDateTime.now();
+        long userId = insertUser(username, passwordHash, now.minusYears(3));
+
+        // Tags
+        List<Object[]> tagRows = new ArrayList<>(tagCount);
+        for (int t = 0; t < tagCount; t++) {
+            tagRows.add(new Object[]{
+                    WORDS[t % WORDS.length] + "-" + t,
+                    String.format("#%06x", random.nextInt(0xFFFFFF)),
+                    "Synthetic tag " + t,
+                    Timestamp.valueOf(now.minusYears(3)),
+                    Timestamp.valueOf(now.minusYears(3)),
+                    userId});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tags (name, color, description, created_date, updated_at, user_id) VALUES (?, ?, ?, ?, ?, ?)",
+                tagRows);
+        List<Long> tagIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tags WHERE user_id = ? ORDER BY id", Long.class, userId);
+
+        // Projects
+        List<Object[]> projectRows = new ArrayList<>(projectCount);
+        for (int p = 0; p < projectCount; p++) {
+            LocalDateTime createdDate = now.minusMinutes(random.nextInt(3 * 365 * 24 * 60));
+            long sinceCreated = Math.max(1, Duration.between(createdDate, now).toMinutes());
+            // Square of a uniform value -> last worked on clusters towards today
+            double recency = random.nextDouble();
+            LocalDateTime lastWorkedOn = now.minusMinutes((long) (recency * recency * sinceCreated));
+
+            projectRows.add(new Object[]{
+                    WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + p,
+                    "Synthetic project " + p + " of " + username,
+                    status(random).name(),
+                    random.nextDouble() < 0.6,
+                    "https://github.com/" + username + "/project-" + p,
+                    "/home/" + username + "/projects/project-" + p,
+                    "Next step for project " + p,
+                    Timestamp.valueOf(createdDate),
+                    Timestamp.valueOf(lastWorkedOn),
+                    Timestamp.valueOf(lastWorkedOn),
+                    userId});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO projects (title, description, status, on_github, github_url, local_path, what_todo, " +
+                        "created_date, last_worked_on, updated_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                projectRows);
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT id FROM projects WHERE user_id = ? ORDER BY id", Long.class, userId);
+
+        // Tag links
+        List<Object[]> linkRows = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            int linksForProject = tagsPerProject(random);
+            List<Long> chosen = new ArrayList<>(linksForProject);
+            for (int l = 0; l < linksForProject; l++) {
+                Long tagId = tagIds.get(zipfIndex(random, tagIds.size()));
+                if (!chosen.contains(tagId)) {
+                    chosen.add(tagId);
+                    linkRows.add(new Object[]{projectId, tagId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_tags (project_id, tag_id) VALUES (?, ?)", linkRows);
+
+        return new long[]{projectIds.size(), tagIds.size(), linkRows.size()};
+    }
+
+    private long insertUser(String username, String passwordHash, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (username, email, password, role, created_at, enabled) VALUES (?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, username);
+            ps.setString(2, username + "@loadtest.local");
+            ps.setString(3, passwordHash);
+            ps.setString(4, "USER");
+            ps.setTimestamp(5, Timestamp.valueOf(createdAt));
+            ps.setBoolean(6, true);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private int projectCount(Random random, Spec spec) {
+        // Log-normal: median = medianProjects, sigma 1.0 -> ~5% of users have 5x the median
+        double value = spec.medianProjects() * Math.exp(random.nextGaussian());
+        return (int) Math.max(1, Math.min(spec.maxProjects(), Math.round(value)));
+    }
+
+    private int tagsPerProject(Random random) {
+        double roll = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < TAGS_PER_PROJECT_WEIGHTS.length; i++) {
+            cumulative += TAGS_PER_PROJECT_WEIGHTS[i];
+            if (roll < cumulative) {
+                return i;
+            }
+        }
+        return TAGS_PER_PROJECT_WEIGHTS.length - 1;
+    }
+
+    private int zipfIndex(Random random, int size) {
+        // Weight of index k is 1/(k+1); harmonic sum computed on the fly (sizes are small)
+        double total = 0;
+        for (int k = 1; k <= size; k++) {
+            total += 1.0 / k;
+        }
+        double roll = random.nextDouble() * total;
+        for (int k = 1; k <= size; k++) {
+            roll -= 1.0 / k;
+            if (roll <= 0) {
+                return k - 1;
+            }
+        }
+        return size - 1;
+    }
+
+    private ProjectStatus status(Random random) {
+        double roll = random.nextDouble();
+        if (roll < 0.30) return ProjectStatus.NOT_STARTED;
+        if (roll < 0.75) return ProjectStatus.IN_PROGRESS;
+        return ProjectStatus.DONE;
+    }
+}
@@ -0,0 +1,44 @@
+package com.vbforge.projectstracker.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds synthetic data on startup when app.seed.users is set, e.g.
+ * --app.seed.users=200 --app.seed.median-projects=60
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.seed.users")
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+
+    @Value("${app.seed.users}")
+    private int users;
+
+    @Value("${app.seed.username-prefix:loaduser}")
+    private String usernamePrefix;
+
+    @Value("${app.seed.password:password}")
+    private String password;
+
+    @Value("${app.seed.median-projects:40}")
+    private int medianProjects;
+
+    @Value("${app.seed.max-projects:2000}")
+    private int maxProjects;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generator.generate(new SyntheticDataGenerator.Spec(
+                users, usernamePrefix, password, medianProjects, maxProjects, randomSeed));
+    }
+}
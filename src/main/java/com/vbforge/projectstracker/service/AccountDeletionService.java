@@ -0,0 +1,32 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.entity.AccountDeletion;
+import com.vbforge.projectstracker.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Deletes a user and everything they own without going through the JPA cascade, which would load
+ * every project and tag (with their EAGER cross-links) and delete them one by one.
+ *
+ * A request only disables the account and records the deletion; AccountDeletionJob then removes
+ * the data in chunked DELETE statements, stage by stage, recording progress after every chunk.
+ */
+public interface AccountDeletionService {
+
+    /**
+     * Disables the account, signs it out everywhere and schedules the deletion.
+     * Asking again for the same user returns the deletion already in progress.
+     */
+    AccountDeletion requestDeletion(User user);
+
+    // Progress of the user's deletion, kept after completion
+    Optional<AccountDeletion> getDeletion(Long userId);
+
+    /**
+     * Runs every unfinished deletion to completion, each resuming at its recorded stage.
+     *
+     * @return the number of deletions completed
+     */
+    int processPending();
+}
@@ -0,0 +1,22 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.HeatmapDTO;
+import com.vbforge.projectstracker.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * Per-day project write counters behind the activity heatmap.
+ *
+ * Counters are kept per owner and year (ActivityCalendar) and incremented from the change
+ * outbox, one locked read-modify-write per owner and year per relayed batch. Reading a year
+ * reads one or two rows instead of loading projects.
+ */
+public interface ActivityCalendarService {
+
+    // Longest range a heatmap can cover
+    int MAX_DAYS = 366;
+
+    // Days in [from, to]; InvalidOperationException if from is after to or the range exceeds MAX_DAYS
+    HeatmapDTO getHeatmap(User owner, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,26 @@
+package com.vbforge.projectstracker.service;
+
+/**
+ * Keeps the per-node caches coherent when several instances share one database.
+ *
+ * Every project/tag write adds an owner-scoped invalidation to the cache_invalidations outbox in
+ * its own transaction, so only committed writes are broadcast. Each node polls the table and
+ * republishes rows written by other nodes as CacheInvalidatedEvent; caches stay local and only
+ * drop what another node changed. Remember-me token rotations and removals travel the same way
+ * (RememberMeTokenChangedEvent), keyed by series or username.
+ */
+public interface CacheInvalidationBus {
+
+    // Identifies this instance in the rows it writes
+    String getNodeId();
+
+    /**
+     * Reads new rows and publishes those of other nodes.
+     *
+     * @return the number of invalidations published
+     */
+    int poll();
+
+    // Deletes rows older than the retention period
+    int purge();
+}
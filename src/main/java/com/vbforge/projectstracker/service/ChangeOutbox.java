@@ -0,0 +1,44 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityType;
+
+import java.util.Collection;
+
+/**
+ * Transactional outbox of project and tag writes.
+ *
+ * The write services append one compact row per changed entity in their own transaction, so the
+ * outbox holds exactly the committed writes. The relay reads unpublished rows in batches and
+ * publishes them as EntityChangeBatch, letting derived data (rollups, indexes, exports) follow
+ * the changes instead of re-scanning projects.
+ */
+public interface ChangeOutbox {
+
+    /**
+     * Records a write; must be called inside the writing transaction.
+     *
+     * @param changedFields  property names, empty when the whole entity is new, gone or unknown
+     * @param previousStatus project status before the write, null if there was none
+     * @param status         project status after the write, null if there is none
+     */
+    void append(EntityType entityType, Long entityId, Long ownerId, ChangeType type, Collection<String> changedFields,
+                ProjectStatus previousStatus, ProjectStatus status);
+
+    // Entities without a status (tags)
+    default void append(EntityType entityType, Long entityId, Long ownerId, ChangeType type, Collection<String> changedFields) {
+        append(entityType, entityId, ownerId, type, changedFields, null, null);
+    }
+
+    /**
+     * Delivers the oldest unpublished changes, at most one batch. When a listener fails, the
+     * batch is retried row by row; a row that keeps failing is dead-lettered after max-attempts.
+     *
+     * @return the number of changes delivered
+     */
+    int relay();
+
+    // Deletes published rows older than the retention period
+    int purge();
+}
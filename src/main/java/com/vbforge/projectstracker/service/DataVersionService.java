@@ -0,0 +1,20 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.entity.User;
+
+/**
+ * Per-owner data version: a persisted counter (users.data_version) that moves on every project
+ * or tag write of that user, so "has anything changed?" costs one primary-key read instead of
+ * re-querying the data itself.
+ */
+public interface DataVersionService {
+
+    // Committed version, read from the database (not from the possibly stale entity)
+    long getVersion(User owner);
+
+    /**
+     * Increments the owner's version. Called by every project/tag write inside its transaction,
+     * so the new version becomes visible together with the data and is lost with a rollback.
+     */
+    void bump(User owner);
+}
@@ -0,0 +1,21 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.entity.User;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent events channel per user: project and tag writes are pushed to the owner's
+ * open dashboard/statistics pages so they can patch themselves instead of reloading.
+ */
+public interface LiveUpdateService {
+
+    String PROJECT_EVENT = "project";
+    String TAG_EVENT = "tag";
+
+    SseEmitter subscribe(User owner);
+
+    // Comment line on every open stream, keeps idle connections open through proxies
+    void sendHeartbeat();
+
+    int getSubscriberCount(User owner);
+}
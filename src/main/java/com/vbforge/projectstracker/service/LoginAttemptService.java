@@ -0,0 +1,17 @@
+package com.vbforge.projectstracker.service;
+
+/**
+ * Failed login bookkeeping per username and per client address. A key with too many failures
+ * inside the window is blocked until the window has passed, and the check runs before the user
+ * is loaded or any password is hashed, so brute-force traffic costs almost nothing.
+ */
+public interface LoginAttemptService {
+
+    // Either the username or the address is over its failure limit
+    boolean isBlocked(String username, String remoteAddress);
+
+    void loginFailed(String username, String remoteAddress);
+
+    // Clears the username's failures; the address keeps its count (one user must not unblock an IP)
+    void loginSucceeded(String username);
+}
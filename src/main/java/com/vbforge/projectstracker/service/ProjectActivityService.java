@@ -0,0 +1,29 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.entity.User;
+
+import java.time.LocalDate;
+import java.util.SortedMap;
+
+/**
+ * Project activity history, kept from the change outbox.
+ *
+ * Recent activity is stored one row per project write (project_activity); the compaction job
+ * folds days older than the raw retention into per-project daily counts (project_activity_daily).
+ * Both are read with index range scans on (owner, time).
+ */
+public interface ProjectActivityService {
+
+    /**
+     * Writes per day in [from, to], compacted and raw days combined; days without activity are absent.
+     */
+    SortedMap<LocalDate, Long> getDailyActivity(User owner, LocalDate from, LocalDate to);
+
+    /**
+     * Folds the raw activity of days before the given day into daily counts, one day per transaction.
+     * Safe to run on several instances at once: each day is locked while it is folded.
+     *
+     * @return the number of activity rows folded
+     */
+    int compact(LocalDate before);
+}
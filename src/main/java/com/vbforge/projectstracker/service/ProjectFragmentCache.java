@@ -0,0 +1,21 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.ProjectFragments;
+import com.vbforge.projectstracker.entity.Project;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Dashboard card/row HTML per project, rendered once per project version and reused across
+ * page views. Entries are keyed by project id and validated against updatedAt and the
+ * project's tags, so a cached row is never older than the project it is shown for.
+ */
+public interface ProjectFragmentCache {
+
+    // Same order as the given projects; missing or outdated entries are rendered on the way.
+    // Links are prefixed with the servlet context path ("" at the root)
+    List<ProjectFragments> getFragments(List<Project> projects, Locale locale, String contextPath);
+
+    int size();
+}
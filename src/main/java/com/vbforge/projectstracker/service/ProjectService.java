@@ -1,5 +1,7 @@
 package com.vbforge.projectstracker.service;
 
+import com.vbforge.projectstracker.dto.BulkProjectRequestDTO;
+import com.vbforge.projectstracker.dto.ResourceVersion;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.User;
@@ -18,8 +20,26 @@ public interface ProjectService {
 
     Project updateProject(Long id, Project updatedProject, User owner);
 
+    // Soft delete: the project disappears at once and can be restored within the undo window
     void deleteProject(Long id, User owner);
 
+    Project restoreProject(Long id, User owner);
+
+    // Create/update including tags in one transaction; an unknown tag id fails the whole write
+    Project saveProject(Project project, List<Long> tagIds);
+
+    Project updateProject(Long id, Project updatedProject, List<Long> tagIds, User owner);
+
+    // Keyset page ordered by id: projects with id > after (null for the first page)
+    List<Project> getProjectPage(User owner, Long after, int limit,
+                                 String title, ProjectStatus status, Boolean onGithub, String tagName);
+
+    // All-or-nothing: fails before any write when one of the ids is not the owner's project
+    int applyBulkOperation(BulkProjectRequestDTO request, User owner);
+
+    // Conditional GET validators, read from updatedAt/count columns only
+    Optional<ResourceVersion> getProjectVersion(Long id, User owner);
+
     List<Project> getProjectsByStatus(ProjectStatus status, User owner);
 
     List<Project> getProjectsByGithubStatus(boolean onGithub, User owner);
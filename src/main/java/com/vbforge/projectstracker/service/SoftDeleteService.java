@@ -0,0 +1,24 @@
+package com.vbforge.projectstracker.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Undo window and background purge of soft-deleted projects and tags.
+ *
+ * Deletes only set deleted_at, so they cost the same whatever the number of project_tags links
+ * and can be undone for a while. Afterwards the purge removes the rows and their links in
+ * bounded chunks, each in its own transaction.
+ */
+public interface SoftDeleteService {
+
+    // Rows deleted at or after this instant can still be restored
+    LocalDateTime restorableSince();
+
+    /**
+     * Hard-deletes projects and tags whose undo window has passed, at most max-batches-per-run
+     * batches of each.
+     *
+     * @return the number of projects and tags removed
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,26 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.StaleProjectDTO;
+import com.vbforge.projectstracker.entity.User;
+
+import java.util.List;
+
+/**
+ * The stalest active (NOT_STARTED / IN_PROGRESS) projects of every owner, kept in memory.
+ *
+ * A periodic scan walks all active projects in last-worked-on order in keyset batches and keeps
+ * the first queue-size projects of each owner. Projects written after the scan leave the queue
+ * right away (they are no longer cold, done or gone) and the next scan fills it up again.
+ */
+public interface StaleProjectService {
+
+    // Stalest first; answered from memory
+    List<StaleProjectDTO> getStaleProjects(User owner);
+
+    /**
+     * Rebuilds all queues.
+     *
+     * @return the number of active projects scanned
+     */
+    int scan();
+}
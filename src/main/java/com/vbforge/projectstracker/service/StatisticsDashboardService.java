@@ -0,0 +1,17 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.StatisticsDashboardDTO;
+import com.vbforge.projectstracker.entity.User;
+
+/**
+ * Loads the statistics page: quick stats and all charts computed concurrently
+ */
+public interface StatisticsDashboardService {
+
+    /**
+     * Load all statistics sections for the owner.
+     * Never throws for a single failing or slow section - that section is returned empty
+     * and reported in {@link StatisticsDashboardDTO#getFailedSections()}.
+     */
+    StatisticsDashboardDTO loadDashboard(User owner);
+}
@@ -0,0 +1,22 @@
+package com.vbforge.projectstracker.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Maintains the daily_statistics rollup
+ */
+public interface StatisticsRollupService {
+
+    /**
+     * Roll up all closed days (up to yesterday) for owners with changes since the last successful run.
+     * The first run processes every owner and their whole history.
+     * @return number of owners processed
+     */
+    int rollup();
+
+    /**
+     * Last day for which daily_statistics is complete for every owner, empty before the first successful run
+     */
+    Optional<LocalDate> getRolledUpThrough();
+}
@@ -1,8 +1,12 @@
 package com.vbforge.projectstracker.service;
 
 import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineDTO;
+import com.vbforge.projectstracker.dto.TimelineField;
 import com.vbforge.projectstracker.entity.User;
 
+import java.time.LocalDate;
 import java.util.*;
 
 /**
@@ -10,6 +14,11 @@ import java.util.*;
  */
 public interface StatisticsService {
 
+    /**
+     * Upper bound of buckets per timeline request
+     */
+    int MAX_TIMELINE_BUCKETS = 1000;
+
 
     /**
      * Get total number of projects
@@ -34,6 +43,19 @@ public interface StatisticsService {
      */
     Map<String, Long> getProjectsCreatedByMonth(User owner);
 
+    /**
+     * Get project counts per time bucket over an arbitrary range, empty buckets included.
+     * Created counts come from the daily rollup for closed days (like getProjectsCreatedByMonth),
+     * last-worked counts from the projects' current values.
+     * @param field date to bucket on (created / last worked on)
+     * @param from first day (inclusive)
+     * @param to last day (inclusive)
+     * @param bucket bucket size (day/week/month/quarter)
+     * @throws com.vbforge.projectstracker.exception.InvalidOperationException if the range is inverted
+     *         or has more than {@link #MAX_TIMELINE_BUCKETS} buckets
+     */
+    TimelineDTO getProjectTimeline(User owner, TimelineField field, LocalDate from, LocalDate to, TimeBucket bucket);
+
     /**
      * Get top N most used tags with project counts
      * @param limit Number of tags to return
@@ -47,6 +69,13 @@ public interface StatisticsService {
      */
     List<ProjectDTO> getProjectActivityData(User owner);
 
+    /**
+     * Get the most recently worked projects (for activity heatmap)
+     * @param limit Number of projects to return
+     * @return List of at most limit ProjectDTOs sorted by days since last worked
+     */
+    List<ProjectDTO> getProjectActivityData(User owner, int limit);
+
     /**
      * Get completion rate percentage
      * @return Percentage of completed projects
@@ -1,5 +1,7 @@
 package com.vbforge.projectstracker.service;
 
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
 
@@ -19,14 +21,23 @@ public interface TagService {
 
     Tag updateTag(Long id, Tag updatedTag, User owner);
 
+    // Soft delete: the tag disappears at once and can be restored within the undo window
     void deleteTag(Long id, User owner);
 
+    Tag restoreTag(Long id, User owner);
+
     boolean existsByName(String name, User owner);
 
     List<Tag> getAllTagsOrderedByName(User owner);
 
     List<Tag> getAllTagsOrderedByPopularity(User owner);
 
+    // Tags with project counts, most used first; limit <= 0 returns all tags
+    List<TagUsageDTO> getTagUsage(User owner, int limit);
+
+    // Conditional GET validator, read from updatedAt/count columns only
+    Optional<ResourceVersion> getTagVersion(Long id, User owner);
+
     List<Tag> getTagsWithProjects(User owner);
 
     List<Tag> getUnusedTags(User owner);
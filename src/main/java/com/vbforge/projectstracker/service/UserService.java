@@ -14,6 +14,9 @@ public interface UserService {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    // Re-authentication before irreversible actions; the hash is read fresh, not from the session's user
+    boolean passwordMatches(User user, String rawPassword);
 }
 
 
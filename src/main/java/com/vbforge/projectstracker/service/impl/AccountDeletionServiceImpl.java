@@ -0,0 +1,198 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.AccountDeletion;
+import com.vbforge.projectstracker.entity.AccountDeletionStage;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.AccountDeletionRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.AccountDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain SQL throughout: the rows are never loaded as entities, and soft-deleted projects and tags
+ * (hidden from JPA) go with the rest. Every chunk is selected by owner and deleted by id in its own
+ * transaction together with the progress update, so re-running a stage is always safe.
+ */
+@Service
+@Slf4j
+public class AccountDeletionServiceImpl implements AccountDeletionService {
+
+    static final String PROGRESS_SQL = "UPDATE account_deletions SET rows_deleted = rows_deleted + ?, updated_at = ? WHERE user_id = ?";
+    static final String STAGE_SQL = "UPDATE account_deletions SET stage = ?, updated_at = ?, completed_at = ? WHERE user_id = ?";
+
+    private final AccountDeletionRepository deletionRepository;
+    private final UserRepository userRepository;
+    private final PersistentTokenRepository tokenRepository;
+    private final ObjectProvider<FindByIndexNameSessionRepository<?>> sessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AccountDeletionServiceImpl(AccountDeletionRepository deletionRepository,
+                                      UserRepository userRepository,
+                                      PersistentTokenRepository tokenRepository,
+                                      ObjectProvider<FindByIndexNameSessionRepository<?>> sessionRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      NamedParameterJdbcTemplate namedJdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${app.account-deletion.batch-size:1000}") int batchSize) {
+        this.deletionRepository = deletionRepository;
+        this.userRepository = userRepository;
+        this.tokenRepository = tokenRepository;
+        this.sessionRepository = sessionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public AccountDeletion requestDeletion(User user) {
+        Optional<AccountDeletion> existing = deletionRepository.findById(user.getId());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        log.info("Account deletion requested for user id={}", user.getId());
+        userRepository.disable(user.getId());
+        tokenRepository.removeUserTokens(user.getUsername());
+        // Without the session store (local stand-in) sessions end with the instance
+        sessionRepository.ifAvailable(sessions ->
+                List.copyOf(sessions.findByPrincipalName(user.getUsername()).keySet()).forEach(sessions::deleteById));
+
+        LocalDateTime now = LocalDateTime.now();
+        return deletionRepository.save(AccountDeletion.builder()
+                .userId(user.getId())
+                .stage(AccountDeletionStage.values()[0])
+                .requestedAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AccountDeletion> getDeletion(Long userId) {
+        return deletionRepository.findById(userId);
+    }
+
+    @Override
+    public int processPending() {
+        int completed = 0;
+        for (AccountDeletion deletion : deletionRepository.findByCompletedAtIsNullOrderByRequestedAtAsc()) {
+            process(deletion.getUserId(), deletion.getStage());
+            completed++;
+        }
+        return completed;
+    }
+
+    private void process(Long userId, AccountDeletionStage from) {
+        for (AccountDeletionStage stage = from; stage != AccountDeletionStage.DONE; stage = stage.next()) {
+            long rows = runStage(userId, stage);
+            AccountDeletionStage next = stage.next();
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(STAGE_SQL, next.name(), Timestamp.valueOf(now),
+                    next == AccountDeletionStage.DONE ? Timestamp.valueOf(now) : null, userId);
+            log.info("Account deletion of user id={}: {} done, {} rows", userId, stage, rows);
+        }
+    }
+
+    private long runStage(Long userId, AccountDeletionStage stage) {
+        return switch (stage) {
+            // Every write appends to both tables: delete by id so only the user's rows are locked
+            case OUTBOX -> deleteInChunks(userId, "SELECT id FROM outbox_events WHERE owner_id = ?",
+                    "DELETE FROM outbox_events WHERE id IN (:ids)")
+                    + deleteInChunks(userId, "SELECT id FROM cache_invalidations WHERE owner_id = ?",
+                    "DELETE FROM cache_invalidations WHERE id IN (:ids)");
+            case ACTIVITY -> deleteInChunks(userId, "SELECT id FROM project_activity WHERE owner_id = ?",
+                    "DELETE FROM project_activity WHERE id IN (:ids)")
+                    + deleteInChunks(userId, "SELECT id FROM project_activity_daily WHERE owner_id = ?",
+                    "DELETE FROM project_activity_daily WHERE id IN (:ids)")
+                    + deleteAll(userId, "DELETE FROM activity_calendar WHERE owner_id = ?");
+            case STATISTICS -> deleteInChunks(userId, "SELECT id FROM daily_statistics WHERE user_id = ?",
+                    "DELETE FROM daily_statistics WHERE id IN (:ids)");
+            case PROJECTS -> deleteInChunks(userId, "SELECT id FROM projects WHERE user_id = ?",
+                    "DELETE FROM project_tags WHERE project_id IN (:ids)",
+                    "DELETE FROM projects WHERE id IN (:ids)");
+            case TAGS -> deleteInChunks(userId, "SELECT id FROM tags WHERE user_id = ?",
+                    "DELETE FROM project_tags WHERE tag_id IN (:ids)",
+                    "DELETE FROM tags WHERE id IN (:ids)");
+            case ACCOUNT -> deleteAccount(userId);
+            case DONE -> 0;
+        };
+    }
+
+    private long deleteAccount(Long userId) {
+        // A request in flight when the account was disabled may have written after its stage ran
+        long rows = 0;
+        for (AccountDeletionStage stage = AccountDeletionStage.values()[0]; stage != AccountDeletionStage.ACCOUNT; stage = stage.next()) {
+            rows += runStage(userId, stage);
+        }
+        List<String> usernames = jdbcTemplate.queryForList("SELECT username FROM users WHERE id = ?", String.class, userId);
+        // Through the repository: it also drops the tokens it caches
+        usernames.forEach(tokenRepository::removeUserTokens);
+        return rows + deleteAll(userId, "DELETE FROM users WHERE id = ?");
+    }
+
+    private long deleteAll(Long userId, String... deleteSqls) {
+        Long deleted = transactionTemplate.execute(status -> {
+            long rows = 0;
+            for (String sql : deleteSqls) {
+                rows += jdbcTemplate.update(sql, userId);
+            }
+            recordProgress(userId, rows);
+            return rows;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    // Selects up to batch-size ids owned by the user and runs the deletes for them, until none are left
+    private long deleteInChunks(Long userId, String selectSql, String... deleteSqls) {
+        long total = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.query(selectSql,
+                    ps -> {
+                        ps.setLong(1, userId);
+                        ps.setMaxRows(batchSize);
+                    },
+                    (rs, rowNum) -> rs.getLong(1));
+            if (ids.isEmpty()) {
+                return total;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+            Long deleted = transactionTemplate.execute(status -> {
+                long rows = 0;
+                for (String sql : deleteSqls) {
+                    rows += namedJdbcTemplate.update(sql, params);
+                }
+                recordProgress(userId, rows);
+                return rows;
+            });
+            total += deleted == null ? 0 : deleted;
+            if (ids.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private void recordProgress(Long userId, long rows) {
+        if (rows > 0) {
+            jdbcTemplate.update(PROGRESS_SQL, rows, Timestamp.valueOf(LocalDateTime.now()), userId);
+        }
+    }
+}
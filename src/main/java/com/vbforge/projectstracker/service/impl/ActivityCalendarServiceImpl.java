@@ -0,0 +1,95 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.dto.HeatmapDTO;
+import com.vbforge.projectstracker.entity.ActivityCalendar;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.EntityChange;
+import com.vbforge.projectstracker.event.EntityChangeBatch;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
+import com.vbforge.projectstracker.repository.ActivityCalendarRepository;
+import com.vbforge.projectstracker.service.ActivityCalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Runs inside the outbox relay transaction, so counters commit together with the batch being
+ * marked as delivered and are never incremented twice for one write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityCalendarServiceImpl implements ActivityCalendarService {
+
+    private final ActivityCalendarRepository calendarRepository;
+
+    @EventListener
+    public void onChanges(EntityChangeBatch batch) {
+        // owner -> day -> writes
+        Map<Long, Map<LocalDate, Integer>> increments = new HashMap<>();
+        for (EntityChange change : batch.changes()) {
+            if (change.entityType() == EntityType.PROJECT) {
+                increments.computeIfAbsent(change.ownerId(), id -> new HashMap<>())
+                        .merge(change.occurredAt().toLocalDate(), 1, Integer::sum);
+            }
+        }
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> years = increments.values().stream()
+                .flatMap(days -> days.keySet().stream())
+                .map(LocalDate::getYear)
+                .collect(Collectors.toSet());
+        Map<String, ActivityCalendar> calendars = new HashMap<>();
+        for (ActivityCalendar calendar : calendarRepository.findForUpdate(increments.keySet(), years)) {
+            calendars.put(key(calendar.getOwnerId(), calendar.getYear()), calendar);
+        }
+
+        increments.forEach((ownerId, days) -> days.forEach((day, writes) -> calendars
+                .computeIfAbsent(key(ownerId, day.getYear()), k -> ActivityCalendar.empty(ownerId, day.getYear()))
+                .add(day.getDayOfYear(), writes)));
+        calendarRepository.saveAll(calendars.values());
+        log.debug("Updated {} activity calendars", calendars.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HeatmapDTO getHeatmap(User owner, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidOperationException("Heatmap range start " + from + " is after its end " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_DAYS) {
+            throw new InvalidOperationException("Heatmap range covers " + days + " days, at most " + MAX_DAYS + " are allowed");
+        }
+
+        Map<Integer, ActivityCalendar> calendars = calendarRepository
+                .findByOwnerIdAndYearBetween(owner.getId(), from.getYear(), to.getYear()).stream()
+                .collect(Collectors.toMap(ActivityCalendar::getYear, calendar -> calendar));
+
+        List<Integer> counts = new ArrayList<>((int) days);
+        long total = 0;
+        int max = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            ActivityCalendar calendar = calendars.get(day.getYear());
+            int count = calendar == null ? 0 : calendar.getCount(day.getDayOfYear());
+            counts.add(count);
+            total += count;
+            max = Math.max(max, count);
+        }
+        return HeatmapDTO.builder().from(from).to(to).counts(counts).total(total).max(max).build();
+    }
+
+    private static String key(Long ownerId, int year) {
+        return ownerId + ":" + year;
+    }
+}
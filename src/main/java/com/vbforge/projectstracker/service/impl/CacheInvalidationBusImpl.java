@@ -0,0 +1,177 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.CacheInvalidation;
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.event.RememberMeTokenChangedEvent;
+import com.vbforge.projectstracker.event.TagChangedEvent;
+import com.vbforge.projectstracker.repository.CacheInvalidationRepository;
+import com.vbforge.projectstracker.service.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Outbox rows are written by synchronous listeners of the write events, which run inside the
+ * service's transaction.
+ *
+ * The poller follows the highest id it has seen. Identity ids are handed out at insert but become
+ * visible at commit, so a lower id can appear after a higher one: skipped ids are remembered as
+ * gaps and looked up again until they show up or gap-timeout passes (a rolled back write leaves a
+ * permanent gap). Invalidations are idempotent, so replaying rows after a restart is harmless.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationBusImpl implements CacheInvalidationBus {
+
+    // Larger jumps are purged or rolled back ranges, not in-flight transactions
+    private static final int MAX_GAP_SPAN = 100;
+
+    private final CacheInvalidationRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration gapTimeout;
+
+    private final Map<Long, Long> gaps = new HashMap<>();
+    private long watermark;
+    // Not a monitor: the poll holds it across queries, which would pin a virtual thread
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public CacheInvalidationBusImpl(CacheInvalidationRepository repository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.cache-bus.enabled:true}") boolean enabled,
+                                    @Value("${app.cache-bus.node-id:}") String nodeId,
+                                    @Value("${app.cache-bus.batch-size:500}") int batchSize,
+                                    @Value("${app.cache-bus.retention:10m}") Duration retention,
+                                    @Value("${app.cache-bus.gap-timeout:30s}") Duration gapTimeout) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        record(event.ownerId(), CacheRegion.PROJECT, event.projectId());
+    }
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        // A new tag is on no project yet
+        if (event.type() != ChangeType.CREATED) {
+            record(event.ownerId(), CacheRegion.TAG, event.tagId());
+        }
+    }
+
+    // Published after the token write, outside any transaction: the row is saved on its own
+    @EventListener
+    public void onRememberMeTokenChanged(RememberMeTokenChangedEvent event) {
+        if (event.series() != null) {
+            record(null, CacheRegion.TOKEN_SERIES, null, event.series());
+        } else {
+            record(null, CacheRegion.TOKEN_USER, null, event.username());
+        }
+    }
+
+    @Override
+    public int poll() {
+        if (!enabled) {
+            return 0;
+        }
+        pollLock.lock();
+        try {
+            return pollRows();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private int pollRows() {
+        long now = System.currentTimeMillis();
+        List<CacheInvalidation> rows = new ArrayList<>(
+                repository.findByIdGreaterThanOrderByIdAsc(watermark, Limit.of(batchSize)));
+        if (!gaps.isEmpty()) {
+            rows.addAll(repository.findAllById(List.copyOf(gaps.keySet())));
+            rows.sort(Comparator.comparing(CacheInvalidation::getId));
+        }
+
+        int published = 0;
+        for (CacheInvalidation row : rows) {
+            long id = row.getId();
+            if (id > watermark) {
+                // The first poll starts wherever the table starts
+                if (watermark > 0 && id - watermark <= MAX_GAP_SPAN) {
+                    for (long missing = watermark + 1; missing < id; missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                watermark = id;
+            } else {
+                gaps.remove(id);
+            }
+            if (!nodeId.equals(row.getOrigin())) {
+                eventPublisher.publishEvent(new CacheInvalidatedEvent(row.getOwnerId(), row.getRegion(),
+                        row.getEntityId(), row.getEntityKey()));
+                published++;
+            }
+        }
+
+        gaps.values().removeIf(noticed -> now - noticed > gapTimeout.toMillis());
+        if (published > 0) {
+            log.debug("Published {} cache invalidations from other nodes", published);
+        }
+        return published;
+    }
+
+    @Override
+    @Transactional
+    public int purge() {
+        return repository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private void record(Long ownerId, CacheRegion region, Long entityId) {
+        record(ownerId, region, entityId, null);
+    }
+
+    private void record(Long ownerId, CacheRegion region, Long entityId, String entityKey) {
+        if (!enabled) {
+            return;
+        }
+        repository.save(CacheInvalidation.builder()
+                .ownerId(ownerId)
+                .region(region)
+                .entityId(entityId)
+                .entityKey(entityKey)
+                .origin(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,164 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.OutboxEvent;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityChange;
+import com.vbforge.projectstracker.event.EntityChangeBatch;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.repository.OutboxEventRepository;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rows are relayed in id order. An id is handed out at insert but becomes visible at commit, so a
+ * slow transaction can show up after higher ids were already delivered; it is delivered with the
+ * next batch. Listeners that care about order per entity compare sequence numbers.
+ *
+ * Listeners run synchronously in the relay transaction, so a batch is delivered and marked
+ * published atomically. When a listener throws, the batch rolls back and its rows are retried one
+ * by one, each in its own transaction: the rows that go through are delivered at once, the failing
+ * row counts an attempt and is dead-lettered after max-attempts, so it cannot hold up the outbox.
+ */
+@Service
+@Slf4j
+public class ChangeOutboxImpl implements ChangeOutbox {
+
+    private final OutboxEventRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public ChangeOutboxImpl(OutboxEventRepository repository,
+                            ApplicationEventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.outbox.enabled:true}") boolean enabled,
+                            @Value("${app.outbox.batch-size:500}") int batchSize,
+                            @Value("${app.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EntityType entityType, Long entityId, Long ownerId, ChangeType type, Collection<String> changedFields,
+                       ProjectStatus previousStatus, ProjectStatus status) {
+        if (!enabled) {
+            return;
+        }
+        repository.save(OutboxEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .ownerId(ownerId)
+                .changeType(type)
+                .changedFields(String.join(",", changedFields))
+                .previousStatus(previousStatus)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public int relay() {
+        List<Long> selected = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<OutboxEvent> rows = repository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+                rows.forEach(row -> selected.add(row.getId()));
+                deliver(rows);
+            });
+            log.debug("Relayed {} outbox events", selected.size());
+            return selected.size();
+        } catch (RuntimeException e) {
+            if (selected.isEmpty()) {
+                throw e;
+            }
+            log.warn("Relaying {} outbox events failed, retrying them one by one", selected.size(), e);
+        }
+        int delivered = 0;
+        for (Long id : selected) {
+            if (relayOne(id)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    // False when the row failed, or another instance delivered it in the meantime
+    private boolean relayOne(Long id) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> repository.findByIdAndPublishedAtIsNull(id)
+                    .map(row -> {
+                        deliver(List.of(row));
+                        return true;
+                    })
+                    .orElse(false)));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> repository.findByIdAndPublishedAtIsNull(id)
+                    .ifPresent(row -> recordFailure(row, e)));
+            return false;
+        }
+    }
+
+    private void deliver(List<OutboxEvent> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new EntityChangeBatch(rows.stream().map(ChangeOutboxImpl::toChange).toList()));
+        repository.markPublished(rows.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+    }
+
+    private void recordFailure(OutboxEvent row, RuntimeException e) {
+        row.setAttempts(row.getAttempts() + 1);
+        if (row.getAttempts() < maxAttempts) {
+            log.warn("Outbox event {} failed (attempt {} of {})", row.getId(), row.getAttempts(), maxAttempts, e);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        row.setFailedAt(now);
+        row.setPublishedAt(now);
+        log.error("Outbox event {} failed {} times, dead-lettered: {} {} {}", row.getId(), row.getAttempts(),
+                row.getChangeType(), row.getEntityType(), row.getEntityId(), e);
+    }
+
+    @Override
+    @Transactional
+    public int purge() {
+        return repository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private static EntityChange toChange(OutboxEvent row) {
+        Set<String> fields = StringUtils.hasLength(row.getChangedFields())
+                ? Arrays.stream(row.getChangedFields().split(",")).collect(Collectors.toCollection(LinkedHashSet::new))
+                : Set.of();
+        return new EntityChange(row.getId(), row.getEntityType(), row.getEntityId(), row.getOwnerId(),
+                row.getChangeType(), fields, row.getPreviousStatus(), row.getStatus(), row.getCreatedAt());
+    }
+}
@@ -0,0 +1,33 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.DataVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataVersionServiceImpl implements DataVersionService {
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(User owner) {
+        return userRepository.findDataVersionById(owner.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", owner.getId()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(User owner) {
+        userRepository.incrementDataVersion(owner.getId());
+        log.debug("Data version bumped for user id={}", owner.getId());
+    }
+}
@@ -0,0 +1,113 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.event.TagChangedEvent;
+import com.vbforge.projectstracker.service.LiveUpdateService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory emitter registry: events reach the pages connected to this instance only.
+ *
+ * Events are sent after the publishing transaction commits (a rolled back write is never pushed);
+ * writes outside a transaction are sent immediately. An open stream holds no request thread.
+ */
+@Service
+@Slf4j
+public class LiveUpdateServiceImpl implements LiveUpdateService {
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final int maxPerUser;
+
+    public LiveUpdateServiceImpl(@Value("${app.live-updates.timeout:30m}") Duration timeout,
+                                 @Value("${app.live-updates.max-per-user:5}") int maxPerUser) {
+        this.timeout = timeout;
+        this.maxPerUser = maxPerUser;
+    }
+
+    @Override
+    public SseEmitter subscribe(User owner) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        List<SseEmitter> userEmitters = emitters.computeIfAbsent(owner.getId(), id -> new CopyOnWriteArrayList<>());
+        userEmitters.add(emitter);
+
+        // The browser reconnects on its own; drop the stream however it ends
+        emitter.onCompletion(() -> remove(owner.getId(), emitter));
+        emitter.onTimeout(() -> remove(owner.getId(), emitter));
+        emitter.onError(e -> remove(owner.getId(), emitter));
+
+        // Too many tabs: close the oldest streams
+        while (userEmitters.size() > maxPerUser) {
+            SseEmitter oldest = userEmitters.remove(0);
+            oldest.complete();
+        }
+
+        log.debug("Live updates subscribed for user id={} ({} open)", owner.getId(), userEmitters.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        send(event.ownerId(), PROJECT_EVENT, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        send(event.ownerId(), TAG_EVENT, event);
+    }
+
+    @Override
+    public void sendHeartbeat() {
+        emitters.forEach((ownerId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                deliver(ownerId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    @Override
+    public int getSubscriberCount(User owner) {
+        List<SseEmitter> userEmitters = emitters.get(owner.getId());
+        return userEmitters == null ? 0 : userEmitters.size();
+    }
+
+    private void send(Long ownerId, String name, Object payload) {
+        List<SseEmitter> userEmitters = emitters.get(ownerId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            deliver(ownerId, emitter, SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void deliver(Long ownerId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away (or the stream already completed): forget it, never fail the write
+            log.debug("Dropping live update stream for user id={}: {}", ownerId, e.getMessage());
+            remove(ownerId, emitter);
+        }
+    }
+
+    private void remove(Long ownerId, SseEmitter emitter) {
+        emitters.computeIfPresent(ownerId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
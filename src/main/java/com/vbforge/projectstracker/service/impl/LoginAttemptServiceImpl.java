@@ -0,0 +1,90 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.service.LoginAttemptService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory fixed-window failure counters ("user:" and "ip:" keys). A window starts with the
+ * first failure and ends window-length later; entries of finished windows are dropped once
+ * the map grows past max-tracked-keys.
+ */
+@Service
+@Slf4j
+public class LoginAttemptServiceImpl implements LoginAttemptService {
+
+    private final Map<String, Window> failures = new ConcurrentHashMap<>();
+    private final int maxPerUsername;
+    private final int maxPerAddress;
+    private final Duration window;
+    private final int maxTrackedKeys;
+
+    public LoginAttemptServiceImpl(@Value("${app.security.login.max-failures-per-username:5}") int maxPerUsername,
+                                   @Value("${app.security.login.max-failures-per-address:20}") int maxPerAddress,
+                                   @Value("${app.security.login.window:15m}") Duration window,
+                                   @Value("${app.security.login.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.maxPerUsername = maxPerUsername;
+        this.maxPerAddress = maxPerAddress;
+        this.window = window;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    @Override
+    public boolean isBlocked(String username, String remoteAddress) {
+        long now = System.currentTimeMillis();
+        return count(userKey(username), now) >= maxPerUsername
+                || (remoteAddress != null && count(addressKey(remoteAddress), now) >= maxPerAddress);
+    }
+
+    @Override
+    public void loginFailed(String username, String remoteAddress) {
+        long now = System.currentTimeMillis();
+        record(userKey(username), now);
+        if (remoteAddress != null) {
+            record(addressKey(remoteAddress), now);
+        }
+    }
+
+    @Override
+    public void loginSucceeded(String username) {
+        failures.remove(userKey(username));
+    }
+
+    private int count(String key, long now) {
+        Window current = failures.get(key);
+        return current == null || current.expired(now) ? 0 : current.count();
+    }
+
+    private void record(String key, long now) {
+        Window updated = failures.compute(key, (k, current) -> current == null || current.expired(now)
+                ? new Window(now + window.toMillis(), 1)
+                : new Window(current.endsAt(), current.count() + 1));
+        if (updated.count() == (key.startsWith("user:") ? maxPerUsername : maxPerAddress)) {
+            log.warn("Login attempts blocked for {} until the window ends", key);
+        }
+        if (failures.size() > maxTrackedKeys) {
+            failures.values().removeIf(entry -> entry.expired(now));
+        }
+    }
+
+    // Case-insensitive, so "Alice" and "alice" share a counter
+    private static String userKey(String username) {
+        return "user:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+    }
+
+    private static String addressKey(String remoteAddress) {
+        return "ip:" + remoteAddress;
+    }
+
+    private record Window(long endsAt, int count) {
+        boolean expired(long now) {
+            return now >= endsAt;
+        }
+    }
+}
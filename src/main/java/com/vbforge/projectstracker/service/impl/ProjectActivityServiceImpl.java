@@ -0,0 +1,158 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.EntityChange;
+import com.vbforge.projectstracker.event.EntityChangeBatch;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.repository.ProjectActivityRepository;
+import com.vbforge.projectstracker.service.ProjectActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Activity rows are inserted with one JDBC batch per relayed outbox batch, inside the relay
+ * transaction: they commit together with the batch being marked as delivered, so the outbox
+ * sequence is a safe primary key.
+ *
+ * Compaction adds to the daily counts, so a day must not be folded by two instances at once: each
+ * day's transaction first locks its raw rows. A second instance waits for those locks and, once the
+ * first has committed, finds the rows deleted and folds nothing.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectActivityServiceImpl implements ProjectActivityService {
+
+    static final String INSERT_SQL = "INSERT INTO project_activity " +
+            "(id, project_id, owner_id, occurred_at, change_type, from_status, to_status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    static final String LOCK_DAY_SQL = "SELECT id FROM project_activity WHERE occurred_at >= ? AND occurred_at < ? FOR UPDATE";
+    static final String OLDEST_SQL = "SELECT MIN(occurred_at) FROM project_activity WHERE occurred_at < ?";
+    static final String FOLD_SQL = "SELECT owner_id, project_id, COUNT(*), " +
+            "SUM(CASE WHEN from_status IS NOT NULL AND to_status IS NOT NULL AND from_status <> to_status THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN to_status = 'DONE' AND (from_status IS NULL OR from_status <> 'DONE') THEN 1 ELSE 0 END) " +
+            "FROM project_activity WHERE occurred_at >= ? AND occurred_at < ? GROUP BY owner_id, project_id";
+    static final String ADD_DAY_SQL = "UPDATE project_activity_daily " +
+            "SET event_count = event_count + ?, status_changes = status_changes + ?, completions = completions + ? " +
+            "WHERE owner_id = ? AND activity_date = ? AND project_id = ?";
+    static final String INSERT_DAY_SQL = "INSERT INTO project_activity_daily " +
+            "(event_count, status_changes, completions, owner_id, activity_date, project_id) VALUES (?, ?, ?, ?, ?, ?)";
+    static final String DELETE_DAY_SQL = "DELETE FROM project_activity WHERE occurred_at >= ? AND occurred_at < ?";
+
+    private final ProjectActivityRepository activityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onChanges(EntityChangeBatch batch) {
+        List<EntityChange> changes = batch.changes().stream()
+                .filter(change -> change.entityType() == EntityType.PROJECT)
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.sequence());
+            ps.setLong(2, change.entityId());
+            ps.setLong(3, change.ownerId());
+            ps.setTimestamp(4, Timestamp.valueOf(change.occurredAt()));
+            ps.setString(5, change.type().name());
+            setStatus(ps, 6, change.previousStatus());
+            setStatus(ps, 7, change.status());
+        });
+        log.debug("Recorded {} project activity rows", changes.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SortedMap<LocalDate, Long> getDailyActivity(User owner, LocalDate from, LocalDate to) {
+        SortedMap<LocalDate, Long> days = new TreeMap<>();
+        for (Object[] row : activityRepository.sumCompactedPerDay(owner.getId(), from, to)) {
+            days.merge((LocalDate) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        for (Object[] row : activityRepository.countPerDay(owner.getId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            days.merge((LocalDate) row[0], (Long) row[1], Long::sum);
+        }
+        return days;
+    }
+
+    @Override
+    public int compact(LocalDate before) {
+        Timestamp cutoff = Timestamp.valueOf(before.atStartOfDay());
+        int folded = 0;
+        Timestamp oldest;
+        // Only days that have rows are visited; each is folded and deleted in its own transaction
+        while ((oldest = jdbcTemplate.queryForObject(OLDEST_SQL, Timestamp.class, cutoff)) != null) {
+            LocalDate day = oldest.toLocalDateTime().toLocalDate();
+            Integer dayFolded = transactionTemplate.execute(status -> compactDay(day));
+            folded += dayFolded == null ? 0 : dayFolded;
+        }
+        if (folded > 0) {
+            log.info("Compacted {} project activity rows before {}", folded, before);
+        }
+        return folded;
+    }
+
+    private int compactDay(LocalDate day) {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        if (jdbcTemplate.queryForList(LOCK_DAY_SQL, Long.class, from, to).isEmpty()) {
+            // Compacted by another instance meanwhile
+            return 0;
+        }
+        List<Object[]> sums = jdbcTemplate.query(FOLD_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)}, from, to);
+
+        // A day is normally compacted once; rows relayed late are added to the existing counts
+        int[][] updated = jdbcTemplate.batchUpdate(ADD_DAY_SQL, sums, sums.size(), (ps, sum) -> setDay(ps, sum, day));
+        List<Object[]> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] chunk : updated) {
+            for (int count : chunk) {
+                if (count == 0) {
+                    missing.add(sums.get(index));
+                }
+                index++;
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DAY_SQL, missing, missing.size(), (ps, sum) -> setDay(ps, sum, day));
+
+        int deleted = jdbcTemplate.update(DELETE_DAY_SQL, from, to);
+        log.debug("Compacted {} activity rows of {} into {} project days", deleted, day, sums.size());
+        return deleted;
+    }
+
+    // [ownerId, projectId, events, statusChanges, completions] -> ADD_DAY_SQL / INSERT_DAY_SQL parameters
+    private static void setDay(PreparedStatement ps, Object[] sum, LocalDate day) throws SQLException {
+        ps.setLong(1, (Long) sum[2]);
+        ps.setLong(2, (Long) sum[3]);
+        ps.setLong(3, (Long) sum[4]);
+        ps.setLong(4, (Long) sum[0]);
+        ps.setDate(5, Date.valueOf(day));
+        ps.setLong(6, (Long) sum[1]);
+    }
+
+    private static void setStatus(PreparedStatement ps, int index, ProjectStatus status) throws SQLException {
+        if (status == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, status.name());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.dto.ProjectFragments;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.event.TagChangedEvent;
+import com.vbforge.projectstracker.service.ProjectFragmentCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory fragment cache, one map per owner. At most max-users owners are kept, least recently
+ * used first out, so memory is bounded by max-users x max-per-user entries however many users
+ * have ever been seen.
+ *
+ * The version stored with each entry (updatedAt, tags, locale, context path) decides whether it can be reused;
+ * the change events only free memory early: a project write evicts its entry, a tag write drops
+ * the owner's entries (renames/colors show up in every row using the tag).
+ */
+@Service
+@Slf4j
+public class ProjectFragmentCacheImpl implements ProjectFragmentCache {
+
+    static final String TEMPLATE = "project-rows";
+
+    private final Map<Long, Map<Long, Entry>> entries;
+    private final ITemplateEngine templateEngine;
+    private final int maxPerUser;
+
+    public ProjectFragmentCacheImpl(ITemplateEngine templateEngine,
+                                    @Value("${app.fragment-cache.max-users:200}") int maxUsers,
+                                    @Value("${app.fragment-cache.max-per-user:500}") int maxPerUser) {
+        this.templateEngine = templateEngine;
+        this.maxPerUser = maxPerUser;
+        // Access order: an idle owner's entries are the first to go
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<Long, Map<Long, Entry>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<Long, ProjectFragmentCacheImpl.Entry>> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    @Override
+    public List<ProjectFragments> getFragments(List<Project> projects, Locale locale, String contextPath) {
+        List<ProjectFragments> fragments = new ArrayList<>(projects.size());
+        int rendered = 0;
+
+        for (Project project : projects) {
+            String version = versionOf(project, locale, contextPath);
+            Map<Long, Entry> ownerEntries = entries.computeIfAbsent(project.getOwner().getId(), id -> new ConcurrentHashMap<>());
+            Entry entry = ownerEntries.get(project.getId());
+            if (entry == null || !entry.version().equals(version)) {
+                entry = new Entry(version, render(project, locale, contextPath));
+                // Crude bound: an owner with more rows than this starts over
+                if (ownerEntries.size() >= maxPerUser) {
+                    ownerEntries.clear();
+                }
+                ownerEntries.put(project.getId(), entry);
+                rendered++;
+            }
+            fragments.add(entry.fragments());
+        }
+
+        log.debug("Project fragments: {} cached, {} rendered", projects.size() - rendered, rendered);
+        return fragments;
+    }
+
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Map<Long, Entry> ownerEntries = entries.get(event.ownerId());
+        if (ownerEntries != null) {
+            ownerEntries.remove(event.projectId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        // A new tag is on no project yet
+        if (event.type() != ChangeType.CREATED) {
+            entries.remove(event.ownerId());
+        }
+    }
+
+    // Writes of other nodes (CacheInvalidationBus)
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.TAG) {
+            entries.remove(event.ownerId());
+            return;
+        }
+        if (event.region() != CacheRegion.PROJECT) {
+            return;
+        }
+        Map<Long, Entry> ownerEntries = entries.get(event.ownerId());
+        if (ownerEntries != null) {
+            ownerEntries.remove(event.entityId());
+        }
+    }
+
+    // Rendered outside a request, so @{...} links cannot resolve the context path themselves
+    private ProjectFragments render(Project project, Locale locale, String contextPath) {
+        Context context = new Context(locale, Map.of("project", project, "contextPath", contextPath));
+        return new ProjectFragments(
+                templateEngine.process(TEMPLATE, Set.of("card"), context),
+                templateEngine.process(TEMPLATE, Set.of("row"), context));
+    }
+
+    // Everything the markup shows that can change without touching the project's updatedAt
+    private static String versionOf(Project project, Locale locale, String contextPath) {
+        String tags = project.getTags().stream()
+                .sorted(Comparator.comparing(Tag::getId))
+                .map(tag -> tag.getId() + ":" + tag.getName() + ":" + tag.getColor())
+                .collect(Collectors.joining(","));
+        return project.getUpdatedAt() + "|" + locale + "|" + contextPath + "|" + tags;
+    }
+
+    private record Entry(String version, ProjectFragments fragments) {
+    }
+}
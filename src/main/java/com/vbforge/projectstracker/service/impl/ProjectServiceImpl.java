@@ -1,22 +1,34 @@
 package com.vbforge.projectstracker.service.impl;
 
+import com.vbforge.projectstracker.dto.BulkProjectRequestDTO;
+import com.vbforge.projectstracker.dto.ResourceVersion;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.event.ProjectSnapshot;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
 import com.vbforge.projectstracker.repository.ProjectRepository;
 import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.DataVersionService;
 import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +38,10 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final TagRepository tagRepository;
+    private final DataVersionService dataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeOutbox changeOutbox;
+    private final SoftDeleteService softDeleteService;
 
     @Override
     public List<Project> getAllProjects(User owner) {
@@ -42,7 +58,17 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public Project saveProject(Project project) {
         log.info("Saving project: {} for user: {}", project.getTitle(), project.getOwner().getUsername());
-        return projectRepository.save(project);
+        boolean created = project.getId() == null;
+        Project saved = projectRepository.save(project);
+        // An existing project saved here has no "before" state, so only creations carry deltas
+        eventPublisher.publishEvent(created
+                ? ProjectChangedEvent.of(ChangeType.CREATED, saved, null, ProjectSnapshot.of(saved))
+                : ProjectChangedEvent.of(ChangeType.UPDATED, saved, ProjectSnapshot.of(saved), ProjectSnapshot.of(saved)));
+        changeOutbox.append(EntityType.PROJECT, saved.getId(), saved.getOwner().getId(),
+                created ? ChangeType.CREATED : ChangeType.UPDATED, Set.of(),
+                created ? null : saved.getStatus(), saved.getStatus());
+        dataVersionService.bump(saved.getOwner());
+        return saved;
     }
 
     @Override
@@ -50,25 +76,140 @@ public class ProjectServiceImpl implements ProjectService {
         log.info("Updating project id={} for user: {}", id, owner.getUsername());
         return projectRepository.findByIdAndOwner(id, owner)
                 .map(project -> {
-                    project.setTitle(updatedProject.getTitle());
-                    project.setDescription(updatedProject.getDescription());
-                    project.setStatus(updatedProject.getStatus());
-                    project.setOnGithub(updatedProject.getOnGithub());
-                    project.setGithubUrl(updatedProject.getGithubUrl());
-                    project.setLocalPath(updatedProject.getLocalPath());
-                    project.setWhatTodo(updatedProject.getWhatTodo());
-                    project.setLastWorkedOn(LocalDateTime.now());
-                    return projectRepository.save(project);
+                    ProjectSnapshot before = ProjectSnapshot.of(project);
+                    Map<String, Object> fieldsBefore = fieldValues(project);
+                    copyEditableFields(project, updatedProject);
+                    return saveAndPublish(project, before, fieldsBefore, owner);
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
     }
 
+    @Override
+    public Project saveProject(Project project, List<Long> tagIds) {
+        project.getTags().addAll(resolveTags(tagIds, project.getOwner()));
+        return saveProject(project);
+    }
+
+    @Override
+    public Project updateProject(Long id, Project updatedProject, List<Long> tagIds, User owner) {
+        log.info("Updating project id={} with tags {} for user: {}", id, tagIds, owner.getUsername());
+        Project project = projectRepository.findByIdAndOwner(id, owner)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        List<Tag> tags = resolveTags(tagIds, owner);
+
+        ProjectSnapshot before = ProjectSnapshot.of(project);
+        Map<String, Object> fieldsBefore = fieldValues(project);
+        copyEditableFields(project, updatedProject);
+        // Project owns the join table; replacing the set avoids loading each tag's projects
+        project.getTags().clear();
+        project.getTags().addAll(tags);
+        return saveAndPublish(project, before, fieldsBefore, owner);
+    }
+
+    @Override
+    public List<Project> getProjectPage(User owner, Long after, int limit,
+                                        String title, ProjectStatus status, Boolean onGithub, String tagName) {
+        return projectRepository.findPageByOwner(owner, after, title, status, onGithub, tagName,
+                PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int applyBulkOperation(BulkProjectRequestDTO request, User owner) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        log.info("Bulk {} on {} projects for user: {}", request.getAction(), ids.size(), owner.getUsername());
+
+        List<Project> projects = projectRepository.findAllByIdInAndOwner(ids, owner);
+        if (projects.size() != ids.size()) {
+            projects.forEach(project -> ids.remove(project.getId()));
+            throw new ResourceNotFoundException("Project", "id", ids.iterator().next());
+        }
+
+        switch (request.getAction()) {
+            case DELETE -> {
+                // One UPDATE for the whole batch, links stay until the purge
+                projectRepository.softDelete(ids, owner, LocalDateTime.now());
+                projects.forEach(project -> {
+                    ProjectSnapshot before = ProjectSnapshot.of(project);
+                    eventPublisher.publishEvent(ProjectChangedEvent.of(ChangeType.DELETED, project, before, null));
+                    changeOutbox.append(EntityType.PROJECT, project.getId(), owner.getId(), ChangeType.DELETED, Set.of(),
+                            before.status(), null);
+                });
+            }
+            case SET_STATUS -> {
+                if (request.getStatus() == null) {
+                    throw new InvalidOperationException("status is required for SET_STATUS");
+                }
+                projects.forEach(project -> {
+                    ProjectSnapshot before = ProjectSnapshot.of(project);
+                    Map<String, Object> fieldsBefore = fieldValues(project);
+                    project.setStatus(request.getStatus());
+                    saveAndPublish(project, before, fieldsBefore, null);
+                });
+            }
+            case ADD_TAG, REMOVE_TAG -> {
+                if (request.getTagId() == null) {
+                    throw new InvalidOperationException("tagId is required for " + request.getAction());
+                }
+                Tag tag = tagRepository.findByIdAndOwner(request.getTagId(), owner)
+                        .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", request.getTagId()));
+                projects.forEach(project -> {
+                    ProjectSnapshot before = ProjectSnapshot.of(project);
+                    Map<String, Object> fieldsBefore = fieldValues(project);
+                    if (request.getAction() == BulkProjectRequestDTO.Action.ADD_TAG) {
+                        project.addTag(tag);
+                    } else {
+                        project.removeTag(tag);
+                    }
+                    saveAndPublish(project, before, fieldsBefore, null);
+                });
+            }
+        }
+        // One version step for the whole batch
+        dataVersionService.bump(owner);
+        return projects.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getProjectVersion(Long id, User owner) {
+        // A tag rename changes the embedded TagDTOs, so the tags' updatedAt counts too
+        return projectRepository.findVersionColumns(id, owner).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of(
+                        ResourceVersion.latest((LocalDateTime) row[0], (LocalDateTime) row[1]), "project", id, row[2]));
+    }
+
     @Override
     public void deleteProject(Long id, User owner) {
         log.info("Deleting project id={} for user: {}", id, owner.getUsername());
+        // Soft delete from columns only: loading the entity would pull its tags and their projects
+        Object[] row = projectRepository.findDeleteColumns(id, owner).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        ProjectSnapshot before = new ProjectSnapshot((ProjectStatus) row[1], Boolean.TRUE.equals(row[2]),
+                Set.copyOf(projectRepository.findTagNames(id)));
+        if (projectRepository.softDelete(List.of(id), owner, LocalDateTime.now()) == 0) {
+            // Deleted concurrently
+            throw new ResourceNotFoundException("Project", "id", id);
+        }
+        eventPublisher.publishEvent(ProjectChangedEvent.of(ChangeType.DELETED, owner.getId(), id, (String) row[0], before, null));
+        changeOutbox.append(EntityType.PROJECT, id, owner.getId(), ChangeType.DELETED, Set.of(), before.status(), null);
+        dataVersionService.bump(owner);
+    }
+
+    @Override
+    public Project restoreProject(Long id, User owner) {
+        log.info("Restoring project id={} for user: {}", id, owner.getUsername());
+        if (projectRepository.restore(id, owner.getId(), softDeleteService.restorableSince(), LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Deleted project", "id", id);
+        }
         Project project = projectRepository.findByIdAndOwner(id, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-        projectRepository.delete(project);
+        // Back on the dashboard like a new project
+        eventPublisher.publishEvent(ProjectChangedEvent.of(ChangeType.CREATED, project, null, ProjectSnapshot.of(project)));
+        changeOutbox.append(EntityType.PROJECT, id, owner.getId(), ChangeType.CREATED, Set.of(), null, project.getStatus());
+        dataVersionService.bump(owner);
+        return project;
     }
 
     @Override
@@ -151,8 +292,10 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
         Tag tag = tagRepository.findByIdAndOwner(tagId, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", tagId));
+        ProjectSnapshot before = ProjectSnapshot.of(project);
+        Map<String, Object> fieldsBefore = fieldValues(project);
         project.addTag(tag);
-        return projectRepository.save(project);
+        return saveAndPublish(project, before, fieldsBefore, owner);
     }
 
     @Override
@@ -161,14 +304,18 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
         Tag tag = tagRepository.findByIdAndOwner(tagId, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", tagId));
+        ProjectSnapshot before = ProjectSnapshot.of(project);
+        Map<String, Object> fieldsBefore = fieldValues(project);
         project.removeTag(tag);
-        return projectRepository.save(project);
+        return saveAndPublish(project, before, fieldsBefore, owner);
     }
 
     @Override
     public Project updateProjectTags(Long projectId, List<Long> tagIds, User owner) {
         Project project = projectRepository.findByIdAndOwner(projectId, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+        ProjectSnapshot before = ProjectSnapshot.of(project);
+        Map<String, Object> fieldsBefore = fieldValues(project);
 
         // Clear existing tags
         project.getTags().clear();
@@ -182,6 +329,67 @@ public class ProjectServiceImpl implements ProjectService {
             }
         }
 
-        return projectRepository.save(project);
+        return saveAndPublish(project, before, fieldsBefore, owner);
+    }
+
+    private void copyEditableFields(Project project, Project updatedProject) {
+        project.setTitle(updatedProject.getTitle());
+        project.setDescription(updatedProject.getDescription());
+        project.setStatus(updatedProject.getStatus());
+        project.setOnGithub(updatedProject.getOnGithub());
+        project.setGithubUrl(updatedProject.getGithubUrl());
+        project.setLocalPath(updatedProject.getLocalPath());
+        project.setWhatTodo(updatedProject.getWhatTodo());
+        project.setLastWorkedOn(LocalDateTime.now());
+    }
+
+    // One query for all ids; every id must be one of the owner's tags
+    private List<Tag> resolveTags(List<Long> tagIds, User owner) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> wanted = new LinkedHashSet<>(tagIds);
+        List<Tag> tags = tagRepository.findAllByIdInAndOwner(wanted, owner);
+        if (tags.size() != wanted.size()) {
+            tags.forEach(tag -> wanted.remove(tag.getId()));
+            throw new ResourceNotFoundException("Tag", "id", wanted.iterator().next());
+        }
+        return tags;
+    }
+
+    // Editable state compared before and after an update for the change outbox; tags by id
+    private static Map<String, Object> fieldValues(Project project) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", project.getTitle());
+        fields.put("description", project.getDescription());
+        fields.put("status", project.getStatus());
+        fields.put("onGithub", project.getOnGithub());
+        fields.put("githubUrl", project.getGithubUrl());
+        fields.put("localPath", project.getLocalPath());
+        fields.put("whatTodo", project.getWhatTodo());
+        fields.put("lastWorkedOn", project.getLastWorkedOn());
+        fields.put("tags", project.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+        return fields;
+    }
+
+    /**
+     * Live dashboard updates: delivered to the owner's open pages after commit (LiveUpdateService).
+     * The change outbox gets the fields that differ from fieldsBefore.
+     * The owner's data version is bumped unless versionOwner is null (bulk operations bump once).
+     */
+    private Project saveAndPublish(Project project, ProjectSnapshot before, Map<String, Object> fieldsBefore, User versionOwner) {
+        // Tag changes alone do not make the entity dirty; updatedAt drives ETags and the rollup
+        project.setUpdatedAt(LocalDateTime.now());
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.of(ChangeType.UPDATED, saved, before, ProjectSnapshot.of(saved)));
+        Map<String, Object> fieldsAfter = fieldValues(saved);
+        Set<String> changed = new LinkedHashSet<>(fieldsAfter.keySet());
+        changed.removeIf(field -> Objects.equals(fieldsBefore.get(field), fieldsAfter.get(field)));
+        changeOutbox.append(EntityType.PROJECT, saved.getId(), saved.getOwner().getId(), ChangeType.UPDATED, changed,
+                before.status(), saved.getStatus());
+        if (versionOwner != null) {
+            dataVersionService.bump(versionOwner);
+        }
+        return saved;
     }
 }
\ No newline at end of file
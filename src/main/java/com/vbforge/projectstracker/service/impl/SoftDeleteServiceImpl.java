@@ -0,0 +1,130 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain SQL throughout: the entities' deleted_at restriction hides exactly the rows purged here.
+ * Nothing is published, the delete itself already was.
+ */
+@Service
+@Slf4j
+public class SoftDeleteServiceImpl implements SoftDeleteService {
+
+    static final String SELECT_EXPIRED_PROJECTS_SQL = "SELECT id FROM projects WHERE deleted_at < ? ORDER BY deleted_at, id";
+    static final String SELECT_EXPIRED_TAGS_SQL = "SELECT id FROM tags WHERE deleted_at < ? ORDER BY deleted_at, id";
+    // deleted_at is checked again in case a project was restored between the select and the delete
+    static final String DELETE_PROJECT_LINKS_SQL = "DELETE FROM project_tags WHERE project_id IN " +
+            "(SELECT id FROM projects WHERE id IN (:ids) AND deleted_at < :cutoff)";
+    static final String DELETE_PROJECTS_SQL = "DELETE FROM projects WHERE id IN (:ids) AND deleted_at < :cutoff";
+    static final String TAG_DELETED_SQL = "SELECT COUNT(*) FROM tags WHERE id = ? AND deleted_at IS NOT NULL";
+    static final String SELECT_TAG_LINKS_SQL = "SELECT project_id FROM project_tags WHERE tag_id = ?";
+    static final String DELETE_TAG_LINKS_SQL = "DELETE FROM project_tags WHERE tag_id = :tagId AND project_id IN (:ids)";
+    static final String DELETE_TAG_SQL = "DELETE FROM tags WHERE id = ? AND deleted_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration undoWindow;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public SoftDeleteServiceImpl(JdbcTemplate jdbcTemplate,
+                                 NamedParameterJdbcTemplate namedJdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.soft-delete.undo-window:10m}") Duration undoWindow,
+                                 @Value("${app.soft-delete.batch-size:500}") int batchSize,
+                                 @Value("${app.soft-delete.max-batches-per-run:20}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.undoWindow = undoWindow;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Override
+    public LocalDateTime restorableSince() {
+        return LocalDateTime.now().minus(undoWindow);
+    }
+
+    @Override
+    public int purgeExpired() {
+        Timestamp cutoff = Timestamp.valueOf(restorableSince());
+        int purged = 0;
+
+        // Projects first: a purged project's links no longer count against its tags' chunks
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = selectIds(SELECT_EXPIRED_PROJECTS_SQL, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("cutoff", cutoff);
+            Integer deleted = transactionTemplate.execute(status -> {
+                namedJdbcTemplate.update(DELETE_PROJECT_LINKS_SQL, params);
+                return namedJdbcTemplate.update(DELETE_PROJECTS_SQL, params);
+            });
+            purged += deleted == null ? 0 : deleted;
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = selectIds(SELECT_EXPIRED_TAGS_SQL, cutoff, batchSize);
+            ids.forEach(this::purgeTag);
+            purged += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted projects and tags", purged);
+        }
+        return purged;
+    }
+
+    private void purgeTag(Long tagId) {
+        // A popular tag has many links: remove them a chunk per transaction, then the tag itself
+        while (true) {
+            Boolean more = transactionTemplate.execute(status -> {
+                Long deleted = jdbcTemplate.queryForObject(TAG_DELETED_SQL, Long.class, tagId);
+                if (deleted == null || deleted == 0) {
+                    return false;
+                }
+                List<Long> projectIds = selectIds(SELECT_TAG_LINKS_SQL, tagId, batchSize);
+                if (!projectIds.isEmpty()) {
+                    namedJdbcTemplate.update(DELETE_TAG_LINKS_SQL,
+                            new MapSqlParameterSource("ids", projectIds).addValue("tagId", tagId));
+                }
+                return projectIds.size() == batchSize;
+            });
+            if (!Boolean.TRUE.equals(more)) {
+                break;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_TAG_SQL, tagId));
+        log.debug("Purged tag id={}", tagId);
+    }
+
+    private List<Long> selectIds(String sql, Object parameter, int limit) {
+        return jdbcTemplate.query(sql,
+                ps -> {
+                    ps.setObject(1, parameter);
+                    ps.setMaxRows(limit);
+                },
+                (rs, rowNum) -> rs.getLong(1));
+    }
+}
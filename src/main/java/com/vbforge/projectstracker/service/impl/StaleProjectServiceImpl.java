@@ -0,0 +1,156 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.dto.StaleProjectDTO;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.service.StaleProjectService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The scan reads in ascending last-worked-on order, so the first queue-size projects seen for an
+ * owner are that owner's stalest - no per-owner heap or sort is needed, and a queue never holds
+ * more than queue-size entries. The finished scan replaces all queues at once; projects written
+ * while it ran are dropped from the new queues, since the scan may have read them before the write.
+ */
+@Service
+@Slf4j
+public class StaleProjectServiceImpl implements StaleProjectService {
+
+    static final Set<ProjectStatus> ACTIVE = EnumSet.of(ProjectStatus.NOT_STARTED, ProjectStatus.IN_PROGRESS);
+
+    // Lower bound of the first page
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 2, 0, 0);
+
+    private final ProjectRepository projectRepository;
+    private final int queueSize;
+    private final int batchSize;
+
+    // owner -> immutable queue, stalest first
+    private volatile Map<Long, List<StaleProject>> queues = new ConcurrentHashMap<>();
+    // project -> owner of the projects written while a scan runs
+    private final Map<Long, Long> writtenDuringScan = new ConcurrentHashMap<>();
+    private volatile boolean scanning;
+    // Not a monitor: a scan holds it across its page queries, which would pin a virtual thread
+    private final ReentrantLock scanLock = new ReentrantLock();
+
+    public StaleProjectServiceImpl(ProjectRepository projectRepository,
+                                   @Value("${app.stale-projects.queue-size:10}") int queueSize,
+                                   @Value("${app.stale-projects.batch-size:1000}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<StaleProjectDTO> getStaleProjects(User owner) {
+        List<StaleProject> queue = queues.getOrDefault(owner.getId(), List.of());
+        LocalDate today = LocalDate.now();
+        return queue.stream().map(project -> project.toDTO(today)).toList();
+    }
+
+    @Override
+    public int scan() {
+        scanLock.lock();
+        try {
+            return scanProjects();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private int scanProjects() {
+        long started = System.currentTimeMillis();
+        writtenDuringScan.clear();
+        scanning = true;
+        Map<Long, List<StaleProject>> scanned = new HashMap<>();
+        int count = 0;
+        try {
+            LocalDateTime after = BEGINNING;
+            Long afterId = 0L;
+            List<Object[]> page;
+            do {
+                page = projectRepository.findLastWorkedPage(ACTIVE, after, afterId, Limit.of(batchSize));
+                for (Object[] row : page) {
+                    StaleProject project = new StaleProject((Long) row[0], (Long) row[1], (String) row[2],
+                            (ProjectStatus) row[3], (LocalDateTime) row[4]);
+                    List<StaleProject> queue = scanned.computeIfAbsent(project.ownerId(), id -> new ArrayList<>(queueSize));
+                    if (queue.size() < queueSize) {
+                        queue.add(project);
+                    }
+                    after = project.lastWorkedOn();
+                    afterId = project.id();
+                }
+                count += page.size();
+            } while (page.size() == batchSize);
+
+            Map<Long, List<StaleProject>> next = new ConcurrentHashMap<>();
+            scanned.forEach((ownerId, queue) -> next.put(ownerId, List.copyOf(queue)));
+            queues = next;
+        } finally {
+            scanning = false;
+        }
+        // Writes seen until the swap; later ones remove from the new queues themselves
+        writtenDuringScan.forEach((projectId, ownerId) -> remove(ownerId, projectId));
+        writtenDuringScan.clear();
+
+        log.info("Stale project scan: {} active projects of {} owners in {} ms",
+                count, scanned.size(), System.currentTimeMillis() - started);
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        written(event.ownerId(), event.projectId());
+    }
+
+    // Writes of other nodes (CacheInvalidationBus)
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.PROJECT) {
+            written(event.ownerId(), event.entityId());
+        }
+    }
+
+    private void written(Long ownerId, Long projectId) {
+        if (scanning) {
+            writtenDuringScan.put(projectId, ownerId);
+        }
+        remove(ownerId, projectId);
+    }
+
+    private void remove(Long ownerId, Long projectId) {
+        queues.computeIfPresent(ownerId, (id, queue) -> {
+            List<StaleProject> rest = queue.stream().filter(project -> !project.id().equals(projectId)).toList();
+            return rest.isEmpty() ? null : rest;
+        });
+    }
+
+    private record StaleProject(Long id, Long ownerId, String title, ProjectStatus status, LocalDateTime lastWorkedOn) {
+
+        StaleProjectDTO toDTO(LocalDate today) {
+            return StaleProjectDTO.builder()
+                    .id(id)
+                    .title(title)
+                    .status(status)
+                    .lastWorkedOn(lastWorkedOn)
+                    .daysSinceLastWorked(ChronoUnit.DAYS.between(lastWorkedOn.toLocalDate(), today))
+                    .build();
+        }
+    }
+}
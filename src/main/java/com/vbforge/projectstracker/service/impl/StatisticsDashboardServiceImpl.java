@@ -0,0 +1,125 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.config.AsyncConfig;
+import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.StatisticsDashboardDTO;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.service.StatisticsDashboardService;
+import com.vbforge.projectstracker.service.StatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fans the independent statistics queries out to the statistics executor and waits for all of them,
+ * so the page costs the slowest section instead of the sum of all sections.
+ *
+ * Deliberately not @Transactional: every section runs on its own thread in its own read-only
+ * transaction (StatisticsServiceImpl), an EntityManager must never be shared between threads.
+ */
+@Service
+@Slf4j
+public class StatisticsDashboardServiceImpl implements StatisticsDashboardService {
+
+    // Rows shown by the activity heatmap
+    private static final int ACTIVITY_LIMIT = 12;
+
+    private final StatisticsService statisticsService;
+    private final AsyncTaskExecutor executor;
+    private final Duration taskTimeout;
+
+    public StatisticsDashboardServiceImpl(
+            StatisticsService statisticsService,
+            @Qualifier(AsyncConfig.STATISTICS_EXECUTOR) AsyncTaskExecutor executor,
+            @Value("${app.statistics.task-timeout:3s}") Duration taskTimeout) {
+        this.statisticsService = statisticsService;
+        this.executor = executor;
+        this.taskTimeout = taskTimeout;
+    }
+
+    @Override
+    public StatisticsDashboardDTO loadDashboard(User owner) {
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<Long> total = section(StatisticsDashboardDTO.QUICK_STATS,
+                () -> statisticsService.getTotalProjects(owner), 0L, failed);
+        CompletableFuture<Double> completionRate = section(StatisticsDashboardDTO.QUICK_STATS,
+                () -> statisticsService.getCompletionRate(owner), 0.0, failed);
+        CompletableFuture<Double> avgDays = section(StatisticsDashboardDTO.QUICK_STATS,
+                () -> statisticsService.getAverageDaysSinceLastWorked(owner), 0.0, failed);
+        CompletableFuture<Map<String, Long>> status = section(StatisticsDashboardDTO.STATUS,
+                () -> statisticsService.getProjectsByStatus(owner), emptyStatusData(), failed);
+        CompletableFuture<Map<String, Long>> github = section(StatisticsDashboardDTO.GITHUB,
+                () -> statisticsService.getGitHubVsLocal(owner), emptyGithubData(), failed);
+        CompletableFuture<Map<String, Long>> timeline = section(StatisticsDashboardDTO.TIMELINE,
+                () -> statisticsService.getProjectsCreatedByMonth(owner), new LinkedHashMap<>(), failed);
+        CompletableFuture<Map<String, Long>> topTags = section(StatisticsDashboardDTO.TAGS,
+                () -> statisticsService.getTopTags(10, owner), new LinkedHashMap<>(), failed);
+        CompletableFuture<List<ProjectDTO>> activity = section(StatisticsDashboardDTO.ACTIVITY,
+                () -> statisticsService.getProjectActivityData(owner, ACTIVITY_LIMIT), new ArrayList<>(), failed);
+
+        // Every section completes (value, fallback or timeout), so this never hangs past the timeout
+        CompletableFuture.allOf(total, completionRate, avgDays, status, github, timeline, topTags, activity).join();
+
+        return StatisticsDashboardDTO.builder()
+                .totalProjects(total.join())
+                .completionRate(completionRate.join())
+                .avgDaysSinceWorked(avgDays.join())
+                .statusData(status.join())
+                .githubData(github.join())
+                .timelineData(timeline.join())
+                .topTags(topTags.join())
+                .activityData(activity.join())
+                .failedSections(new ArrayList<>(new TreeSet<>(failed)))
+                .build();
+    }
+
+    /**
+     * Run one section on the executor. Exceptions and timeouts are logged and replaced by the fallback.
+     * A timed-out task keeps running until its query timeout (app.statistics.query-timeout-seconds) hits,
+     * its late result is simply dropped.
+     */
+    private <T> CompletableFuture<T> section(String name, Supplier<T> task, T fallback, Set<String> failed) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .orTimeout(taskTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error == null && result != null) {
+                        return result;
+                    }
+                    log.warn("Statistics section '{}' failed: {}", name, error != null ? error.toString() : "no result");
+                    failed.add(name);
+                    return fallback;
+                });
+    }
+
+    private Map<String, Long> emptyStatusData() {
+        Map<String, Long> data = new LinkedHashMap<>();
+        data.put("NOT_STARTED", 0L);
+        data.put("IN_PROGRESS", 0L);
+        data.put("DONE", 0L);
+        return data;
+    }
+
+    private Map<String, Long> emptyGithubData() {
+        Map<String, Long> data = new LinkedHashMap<>();
+        data.put("github", 0L);
+        data.put("local", 0L);
+        return data;
+    }
+}
@@ -0,0 +1,187 @@
+package com.vbforge.projectstracker.service.impl;
+
+import com.vbforge.projectstracker.entity.DailyStatistics;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.StatisticsRollupState;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.DailyStatisticsRepository;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.StatisticsRollupStateRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.StatisticsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental daily statistics rollup.
+ *
+ * Each run covers the closed days (previous rolledUpThrough, yesterday] and only the owners whose
+ * projects or tags changed since the start of that window, or whose project count no longer matches
+ * their latest snapshot (deletions). Every owner is rolled up in its own transaction and upserts are
+ * idempotent, so a failed run is simply repeated by the next one - the state only advances when
+ * all owners succeeded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupServiceImpl implements StatisticsRollupService {
+
+    // Lower bound for the first run (whole history)
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 2, 0, 0);
+
+    private final ProjectRepository projectRepository;
+    private final TagRepository tagRepository;
+    private final UserRepository userRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsRollupStateRepository rollupStateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public int rollup() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDate newThrough = started.toLocalDate().minusDays(1);
+
+        Optional<StatisticsRollupState> state = rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID);
+        LocalDate previousThrough = state.map(StatisticsRollupState::getRolledUpThrough).orElse(null);
+
+        Set<Long> ownerIds = state
+                // From the start of the window, not the previous run: writes between midnight and
+                // that run belong to a day it did not close
+                .map(s -> findChangedOwners(s.getRolledUpThrough().plusDays(1).atStartOfDay()))
+                .orElseGet(this::findAllOwners);
+
+        log.info("Statistics rollup through {}: {} owner(s) to process (previous run through {})",
+                newThrough, ownerIds.size(), previousThrough);
+
+        int failed = 0;
+        for (Long ownerId : ownerIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        rollupOwner(ownerId, previousThrough, newThrough, started));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Statistics rollup failed for owner {}", ownerId, e);
+            }
+        }
+
+        if (failed > 0) {
+            log.warn("Statistics rollup incomplete: {} owner(s) failed, state not advanced", failed);
+            return ownerIds.size() - failed;
+        }
+
+        StatisticsRollupState newState = state.orElseGet(() ->
+                StatisticsRollupState.builder().id(StatisticsRollupState.SINGLETON_ID).build());
+        newState.setRolledUpThrough(newThrough);
+        newState.setLastRunStartedAt(started);
+        rollupStateRepository.save(newState);
+
+        log.info("Statistics rollup finished in {} ms", Duration.between(started, LocalDateTime.now()).toMillis());
+        return ownerIds.size();
+    }
+
+    @Override
+    public Optional<LocalDate> getRolledUpThrough() {
+        return rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID)
+                .map(StatisticsRollupState::getRolledUpThrough);
+    }
+
+    private Set<Long> findAllOwners() {
+        return projectRepository.countProjectsPerOwner().stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private Set<Long> findChangedOwners(LocalDateTime since) {
+        Set<Long> owners = new TreeSet<>(projectRepository.findOwnerIdsChangedSince(since));
+        owners.addAll(tagRepository.findOwnerIdsChangedSince(since));
+
+        // Deletions leave no timestamp behind: compare current counts with the latest snapshots
+        Map<Long, Long> currentCounts = projectRepository.countProjectsPerOwner().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        for (Object[] row : dailyStatisticsRepository.findLatestSnapshotTotals()) {
+            Long ownerId = (Long) row[0];
+            if (!Objects.equals(currentCounts.getOrDefault(ownerId, 0L), row[1])) {
+                owners.add(ownerId);
+            }
+        }
+        return owners;
+    }
+
+    private void rollupOwner(Long ownerId, LocalDate previousThrough, LocalDate newThrough, LocalDateTime computedAt) {
+        User owner = userRepository.getReferenceById(ownerId);
+
+        LocalDateTime from = previousThrough == null ? BEGINNING : previousThrough.plusDays(1).atStartOfDay();
+        LocalDateTime to = newThrough.plusDays(1).atStartOfDay();
+
+        // Existing rows in the window (a repeated run after a failure, or a second run on the same day)
+        Map<LocalDate, DailyStatistics> rows = dailyStatisticsRepository
+                .findByOwnerAndStatDateBetween(owner, min(from.toLocalDate(), newThrough), newThrough).stream()
+                .collect(Collectors.toMap(DailyStatistics::getStatDate, Function.identity()));
+        Function<LocalDate, DailyStatistics> row = day -> rows.computeIfAbsent(day, d ->
+                DailyStatistics.builder().owner(owner).statDate(d).build());
+
+        // Closed days since the previous run, recomputed from zero: a day left out of the counts below
+        // (a project's last work moved to another day) must not keep what an earlier run stored
+        if (from.isBefore(to)) {
+            rows.values().stream()
+                    .filter(r -> !r.getStatDate().isBefore(from.toLocalDate()))
+                    .forEach(r -> {
+                        r.setCreatedCount(0);
+                        r.setWorkedCount(0);
+                    });
+            for (Object[] created : projectRepository.countCreatedPerDay(owner, from, to)) {
+                row.apply((LocalDate) created[0]).setCreatedCount((Long) created[1]);
+            }
+            for (Object[] worked : projectRepository.countLastWorkedPerDay(owner, from, to)) {
+                row.apply((LocalDate) worked[0]).setWorkedCount((Long) worked[1]);
+            }
+        }
+
+        // Snapshot, stored on the last closed day
+        DailyStatistics snapshot = row.apply(newThrough);
+        long total = 0, notStarted = 0, inProgress = 0, done = 0, onGithub = 0, epochDaySum = 0;
+        for (Object[] columns : projectRepository.findSnapshotColumnsByOwner(owner)) {
+            total++;
+            switch ((ProjectStatus) columns[0]) {
+                case NOT_STARTED -> notStarted++;
+                case IN_PROGRESS -> inProgress++;
+                case DONE -> done++;
+            }
+            if (Boolean.TRUE.equals(columns[1])) {
+                onGithub++;
+            }
+            epochDaySum += ((LocalDateTime) columns[2]).toLocalDate().toEpochDay();
+        }
+        snapshot.setTotalProjects(total);
+        snapshot.setNotStartedCount(notStarted);
+        snapshot.setInProgressCount(inProgress);
+        snapshot.setDoneCount(done);
+        snapshot.setOnGithubCount(onGithub);
+        snapshot.setLastWorkedEpochDaySum(epochDaySum);
+
+        Map<String, Long> tagUsage = new TreeMap<>();
+        for (Object[] tag : projectRepository.countProjectsPerTag(owner)) {
+            tagUsage.put((String) tag[0], (Long) tag[1]);
+        }
+        snapshot.setTagUsage(tagUsage);
+
+        rows.values().forEach(r -> r.setComputedAt(computedAt));
+        dailyStatisticsRepository.saveAll(rows.values());
+
+        log.debug("Rolled up {} day(s) for owner {}", rows.size(), ownerId);
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
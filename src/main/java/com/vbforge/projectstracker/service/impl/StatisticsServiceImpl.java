@@ -1,19 +1,30 @@
 package com.vbforge.projectstracker.service.impl;
 
 import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineDTO;
+import com.vbforge.projectstracker.dto.TimelineField;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
 import com.vbforge.projectstracker.mapper.ProjectMapper;
+import com.vbforge.projectstracker.entity.DailyStatistics;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
-import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.StatisticsRollupState;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.DailyStatisticsRepository;
 import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.StatisticsRollupStateRepository;
 import com.vbforge.projectstracker.service.StatisticsService;
+import com.vbforge.projectstracker.service.TagService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -22,11 +33,15 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
+// Query timeout: sections abandoned by StatisticsDashboardService must not hold connections for long
+@Transactional(readOnly = true, timeoutString = "${app.statistics.query-timeout-seconds:5}")
 public class StatisticsServiceImpl implements StatisticsService {
 
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsRollupStateRepository rollupStateRepository;
+    private final TagService tagService;
 
     @Override
     public long getTotalProjects(User owner) {
@@ -68,7 +83,6 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public Map<String, Long> getProjectsCreatedByMonth(User owner) {
-        List<Project> projects = projectRepository.findAllByOwner(owner);
         LocalDate now = LocalDate.now();
         Map<String, Long> monthCounts = new LinkedHashMap<>();
 
@@ -78,12 +92,26 @@ public class StatisticsServiceImpl implements StatisticsService {
             monthCounts.put(month.toString(), 0L);
         }
 
-        // Count projects by creation month
-        for (Project project : projects) {
-            YearMonth createdMonth = YearMonth.from(project.getCreatedDate());
-            String monthKey = createdMonth.toString();
-            if (monthCounts.containsKey(monthKey)) {
-                monthCounts.put(monthKey, monthCounts.get(monthKey) + 1);
+        LocalDate from = YearMonth.from(now.minusMonths(5)).atDay(1);
+        LocalDate rolledUpThrough = rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID)
+                .map(StatisticsRollupState::getRolledUpThrough)
+                .orElse(null);
+
+        if (rolledUpThrough == null) {
+            // No rollup yet - count from the projects themselves
+            for (Project project : projectRepository.findAllByOwner(owner)) {
+                monthCounts.computeIfPresent(YearMonth.from(project.getCreatedDate()).toString(), (k, v) -> v + 1);
+            }
+        } else {
+            // Closed days from the rollup, everything after it (normally just today) live
+            if (!rolledUpThrough.isBefore(from)) {
+                for (Object[] row : dailyStatisticsRepository.findCreatedCounts(owner, from, rolledUpThrough)) {
+                    monthCounts.computeIfPresent(YearMonth.from((LocalDate) row[0]).toString(), (k, v) -> v + (Long) row[1]);
+                }
+            }
+            LocalDate liveFrom = rolledUpThrough.isBefore(from) ? from : rolledUpThrough.plusDays(1);
+            for (LocalDateTime created : projectRepository.findCreatedDatesSince(owner, liveFrom.atStartOfDay())) {
+                monthCounts.computeIfPresent(YearMonth.from(created).toString(), (k, v) -> v + 1);
             }
         }
 
@@ -92,28 +120,73 @@ public class StatisticsServiceImpl implements StatisticsService {
     }
 
     @Override
-    public Map<String, Long> getTopTags(int limit, User owner) {
-        List<Project> projects = projectRepository.findAllByOwner(owner);
+    public TimelineDTO getProjectTimeline(User owner, TimelineField field, LocalDate from, LocalDate to, TimeBucket bucket) {
+        if (from.isAfter(to)) {
+            throw new InvalidOperationException("Timeline range start " + from + " is after its end " + to);
+        }
+        long bucketCount = bucket.count(from, to);
+        if (bucketCount > MAX_TIMELINE_BUCKETS) {
+            throw new InvalidOperationException("Timeline range has " + bucketCount + " " + bucket.name().toLowerCase()
+                    + " buckets, at most " + MAX_TIMELINE_BUCKETS + " allowed - use a larger bucket size");
+        }
 
-        Map<String, Long> tagCounts = new HashMap<>();
-        for (Project project : projects) {
-            if (project.getTags() != null) {
-                for (Tag tag : project.getTags()) {
-                    tagCounts.merge(tag.getName(), 1L, Long::sum);
-                }
-            }
+        Map<LocalDate, Long> counts = field == TimelineField.CREATED
+                ? countCreatedPerBucket(owner, bucket, from, to)
+                : projectRepository.countPerBucket(owner, field, bucket, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        // Zero-fill: walk the bucket starts once, O(buckets)
+        List<String> labels = new ArrayList<>((int) bucketCount);
+        List<Long> data = new ArrayList<>((int) bucketCount);
+        for (LocalDate start = bucket.start(from); !start.isAfter(to); start = bucket.next(start)) {
+            labels.add(bucket.label(start));
+            data.add(counts.getOrDefault(start, 0L));
         }
 
-        // Sort by count descending and limit
-        Map<String, Long> topTags = tagCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(limit)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
+        log.debug("Timeline {} by {} for {} ({} - {}): {} buckets", field, bucket, owner.getUsername(), from, to, labels.size());
+        return TimelineDTO.builder()
+                .field(field)
+                .bucket(bucket)
+                .from(from)
+                .to(to)
+                .labels(labels)
+                .data(data)
+                .build();
+    }
+
+    // Same source as getProjectsCreatedByMonth: closed days from the rollup (which keeps deleted
+    // projects' creations), later days live. Last worked on is always live - it moves with every
+    // write, so the rollup's per-day worked counts describe the past, not the current spread.
+    private Map<LocalDate, Long> countCreatedPerBucket(User owner, TimeBucket bucket, LocalDate from, LocalDate to) {
+        LocalDate rolledUpThrough = rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID)
+                .map(StatisticsRollupState::getRolledUpThrough)
+                .orElse(null);
+        if (rolledUpThrough == null || rolledUpThrough.isBefore(from)) {
+            return projectRepository.countPerBucket(
+                    owner, TimelineField.CREATED, bucket, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        }
+
+        LocalDate rolledUpTo = rolledUpThrough.isBefore(to) ? rolledUpThrough : to;
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : dailyStatisticsRepository.findCreatedCounts(owner, from, rolledUpTo)) {
+            counts.merge(bucket.start((LocalDate) row[0]), (Long) row[1], Long::sum);
+        }
+        if (rolledUpTo.isBefore(to)) {
+            projectRepository.countPerBucket(owner, TimelineField.CREATED, bucket,
+                            rolledUpTo.plusDays(1).atStartOfDay(), to.plusDays(1).atStartOfDay())
+                    .forEach((start, count) -> counts.merge(start, count, Long::sum));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getTopTags(int limit, User owner) {
+        // Ranked and limited in SQL; unused tags sort last and are not charted
+        Map<String, Long> topTags = new LinkedHashMap<>();
+        for (TagUsageDTO usage : tagService.getTagUsage(owner, limit)) {
+            if (usage.getProjectCount() > 0) {
+                topTags.put(usage.getName(), usage.getProjectCount());
+            }
+        }
 
         log.debug("Top {} tags for {}: {}", limit, owner.getUsername(), topTags);
         return topTags;
@@ -123,12 +196,26 @@ public class StatisticsServiceImpl implements StatisticsService {
     public List<ProjectDTO> getProjectActivityData(User owner) {
         List<Project> projects = projectRepository.findAllByOwner(owner);
 
+        LocalDate today = LocalDate.now();
         return projects.stream()
-                .map(projectMapper::toDTO)
+                .map(project -> projectMapper.toDTO(project, today))
                 .sorted(Comparator.comparingLong(ProjectDTO::getDaysSinceLastWorked))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ProjectDTO> getProjectActivityData(User owner, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        // ORDER BY + LIMIT in SQL: only the projects shown are loaded
+        List<Project> recent = projectRepository.findByOwnerOrderByLastWorkedOnDescIdDesc(owner, PageRequest.of(0, limit));
+        LocalDate today = LocalDate.now();
+        return recent.stream()
+                .map(project -> projectMapper.toDTO(project, today))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public double getCompletionRate(User owner) {
         long total = projectRepository.countByOwner(owner);
@@ -143,14 +230,28 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public double getAverageDaysSinceLastWorked(User owner) {
-        List<Project> projects = projectRepository.findAllByOwner(owner);
-        if (projects.isEmpty()) return 0.0;
-
         LocalDate today = LocalDate.now();
-        double average = projects.stream()
-                .mapToLong(project -> ChronoUnit.DAYS.between(project.getLastWorkedOn().toLocalDate(), today))
-                .average()
-                .orElse(0.0);
+
+        // The latest rollup snapshot is exact as long as nothing changed since it was taken
+        Optional<DailyStatistics> snapshot = dailyStatisticsRepository
+                .findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(owner)
+                .filter(s -> s.getTotalProjects() > 0
+                        && !projectRepository.existsByOwnerAndUpdatedAtAfter(owner, s.getComputedAt())
+                        && projectRepository.countByOwner(owner) == s.getTotalProjects());
+
+        double average;
+        if (snapshot.isPresent()) {
+            DailyStatistics s = snapshot.get();
+            average = today.toEpochDay() - (double) s.getLastWorkedEpochDaySum() / s.getTotalProjects();
+        } else {
+            List<Project> projects = projectRepository.findAllByOwner(owner);
+            if (projects.isEmpty()) return 0.0;
+
+            average = projects.stream()
+                    .mapToLong(project -> ChronoUnit.DAYS.between(project.getLastWorkedOn().toLocalDate(), today))
+                    .average()
+                    .orElse(0.0);
+        }
 
         log.debug("Average days since last worked for {}: {}", owner.getUsername(), String.format("%.1f", average));
         return Math.round(average * 10.0) / 10.0;
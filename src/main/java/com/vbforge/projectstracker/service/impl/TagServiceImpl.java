@@ -1,17 +1,33 @@
 package com.vbforge.projectstracker.service.impl;
 
+import com.vbforge.projectstracker.dto.ResourceVersion;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.event.TagChangedEvent;
+import com.vbforge.projectstracker.exception.DuplicateResourceException;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
 import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
 import com.vbforge.projectstracker.service.TagService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +36,10 @@ import java.util.Optional;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final DataVersionService dataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeOutbox changeOutbox;
+    private final SoftDeleteService softDeleteService;
 
     @Override
     public List<Tag> getAllTags(User owner) {
@@ -43,7 +63,14 @@ public class TagServiceImpl implements TagService {
             throw new IllegalArgumentException("Tag must have an owner before saving");
         }
         log.info("Saving tag: {} for user: {}", tag.getName(), tag.getOwner().getUsername());
-        return tagRepository.save(tag);
+        boolean created = tag.getId() == null;
+        releaseDeletedName(tag.getName(), tag.getOwner());
+        Tag saved = tagRepository.save(tag);
+        eventPublisher.publishEvent(TagChangedEvent.of(created ? ChangeType.CREATED : ChangeType.UPDATED, saved, null));
+        changeOutbox.append(EntityType.TAG, saved.getId(), saved.getOwner().getId(),
+                created ? ChangeType.CREATED : ChangeType.UPDATED, Set.of());
+        dataVersionService.bump(saved.getOwner());
+        return saved;
     }
 
     @Override
@@ -51,10 +78,28 @@ public class TagServiceImpl implements TagService {
         log.info("Updating tag id={} for user: {}", id, owner.getUsername());
         return tagRepository.findByIdAndOwner(id, owner)
                 .map(tag -> {
+                    String previousName = tag.getName();
+                    List<String> changed = new ArrayList<>(3);
+                    if (!Objects.equals(tag.getName(), updatedTag.getName())) {
+                        changed.add("name");
+                    }
+                    if (!Objects.equals(tag.getColor(), updatedTag.getColor())) {
+                        changed.add("color");
+                    }
+                    if (!Objects.equals(tag.getDescription(), updatedTag.getDescription())) {
+                        changed.add("description");
+                    }
+                    if (changed.contains("name")) {
+                        releaseDeletedName(updatedTag.getName(), owner);
+                    }
                     tag.setName(updatedTag.getName());
                     tag.setColor(updatedTag.getColor());
                     tag.setDescription(updatedTag.getDescription());
-                    return tagRepository.save(tag);
+                    Tag saved = tagRepository.save(tag);
+                    eventPublisher.publishEvent(TagChangedEvent.of(ChangeType.UPDATED, saved, previousName));
+                    changeOutbox.append(EntityType.TAG, id, owner.getId(), ChangeType.UPDATED, changed);
+                    dataVersionService.bump(owner);
+                    return saved;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
     }
@@ -62,9 +107,42 @@ public class TagServiceImpl implements TagService {
     @Override
     public void deleteTag(Long id, User owner) {
         log.info("Deleting tag id={} for user: {}", id, owner.getUsername());
+        // Soft delete from columns only: the project_tags links are left to the purge
+        Object[] row = tagRepository.findDeleteColumns(id, owner).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
+        if (tagRepository.softDelete(id, owner, LocalDateTime.now()) == 0) {
+            // Deleted concurrently
+            throw new ResourceNotFoundException("Tag", "id", id);
+        }
+        eventPublisher.publishEvent(new TagChangedEvent(owner.getId(), ChangeType.DELETED, id, (String) row[0], null, (String) row[1]));
+        changeOutbox.append(EntityType.TAG, id, owner.getId(), ChangeType.DELETED, Set.of());
+        dataVersionService.bump(owner);
+    }
+
+    @Override
+    public Tag restoreTag(Long id, User owner) {
+        log.info("Restoring tag id={} for user: {}", id, owner.getUsername());
+        if (tagRepository.restore(id, owner.getId(), softDeleteService.restorableSince(), LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Deleted tag", "id", id);
+        }
         Tag tag = tagRepository.findByIdAndOwner(id, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
-        tagRepository.delete(tag);
+        eventPublisher.publishEvent(TagChangedEvent.of(ChangeType.CREATED, tag, null));
+        changeOutbox.append(EntityType.TAG, id, owner.getId(), ChangeType.CREATED, Set.of());
+        dataVersionService.bump(owner);
+        return tag;
+    }
+
+    // A deleted tag holds its name until it is purged. Within the undo window the user should restore it;
+    // afterwards only its name is released, the links stay with the purge job
+    private void releaseDeletedName(String name, User owner) {
+        LocalDateTime since = softDeleteService.restorableSince();
+        if (tagRepository.countRestorableByName(name, owner.getId(), since) > 0) {
+            throw new DuplicateResourceException("A deleted tag named '" + name
+                    + "' can still be restored: restore it instead of creating a new one");
+        }
+        tagRepository.renameExpired(name, owner.getId(), since);
     }
 
     @Override
@@ -82,6 +160,19 @@ public class TagServiceImpl implements TagService {
         return tagRepository.findAllByOwnerOrderByProjectCountDesc(owner);
     }
 
+    @Override
+    public List<TagUsageDTO> getTagUsage(User owner, int limit) {
+        Pageable page = limit > 0 ? PageRequest.of(0, limit) : Pageable.unpaged();
+        return tagRepository.findTagUsageByOwner(owner, page);
+    }
+
+    @Override
+    public Optional<ResourceVersion> getTagVersion(Long id, User owner) {
+        return tagRepository.findVersionColumns(id, owner).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of((LocalDateTime) row[0], "tag", id, row[1]));
+    }
+
     @Override
     public List<Tag> getTagsWithProjects(User owner) {
         return tagRepository.findTagsWithProjectsByOwner(owner);
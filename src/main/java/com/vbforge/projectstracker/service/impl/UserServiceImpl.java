@@ -66,4 +66,12 @@ public class UserServiceImpl implements UserService {
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean passwordMatches(User user, String rawPassword) {
+        return userRepository.findById(user.getId())
+                .map(stored -> passwordEncoder.matches(rawPassword, stored.getPassword()))
+                .orElse(false);
+    }
+}
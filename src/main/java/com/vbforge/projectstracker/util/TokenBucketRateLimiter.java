@@ -0,0 +1,86 @@
+package com.vbforge.projectstracker.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key token buckets: up to capacity requests at once, refilled at capacity per period.
+ *
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time" (GCRA): the instant
+ * the bucket would be full again. Taking a token moves it forward by one emission interval
+ * (period / capacity) with a CAS, so no bucket ever takes a lock. Keys are spread over
+ * independent stripes; a stripe over its share of maxKeys first drops its idle (full) buckets,
+ * which loses nothing, and starts over if that is not enough.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(int capacity, Duration period, int maxKeys) {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new ConcurrentHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Takes one token for the key.
+     *
+     * @return 0 when the request may proceed, otherwise how long until a token is available
+     */
+    public Duration tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    Duration tryAcquire(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evict(stripe, now);
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long next = (tat - now > 0 ? tat : now) + emissionIntervalNanos;
+            long wait = next - burstToleranceNanos - now;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private void evict(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        // A bucket whose arrival time has passed is full again - same as having none
+        stripe.values().removeIf(bucket -> bucket.get() - now <= 0);
+        if (stripe.size() >= maxKeysPerStripe) {
+            stripe.clear();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Deterministic synthetic dataset for the benchmarks: one owner, a pool of tags
+ * with skewed popularity and N projects spread over the last three years.
+ */
+public final class BenchmarkData {
+
+    private static final int TAG_COUNT = 25;
+    private static final String[] WORDS = {
+            "spring", "tracker", "api", "cli", "parser", "dashboard", "export", "sync",
+            "engine", "widget", "service", "plugin", "client", "report", "cache", "agent"
+    };
+
+    private final User owner;
+    private final List<Tag> tags;
+    private final List<Project> projects;
+
+    private BenchmarkData(User owner, List<Tag> tags, List<Project> projects) {
+        this.owner = owner;
+        this.tags = tags;
+        this.projects = projects;
+    }
+
+    public static BenchmarkData generate(int projectCount) {
+        Random random = new Random(42L);
+        LocalDateTime now = LocalDateTime.now();
+
+        User owner = User.builder()
+                .id(1L)
+                .username("bench")
+                .email("bench@example.com")
+                .password("n/a")
+                .role(Role.USER)
+                .createdAt(now.minusYears(3))
+                .build();
+
+        List<Tag> tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(Tag.builder()
+                    .id((long) i + 1)
+                    .name(WORDS[i % WORDS.length] + "-" + i)
+                    .color(String.format("#%06x", random.nextInt(0xFFFFFF)))
+                    .owner(owner)
+                    .createdDate(now.minusYears(3))
+                    .updatedAt(now.minusYears(3))
+                    .build());
+        }
+
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            LocalDateTime created = now.minusMinutes(random.nextInt(3 * 365 * 24 * 60));
+            LocalDateTime lastWorked = created.plusMinutes(
+                    random.nextInt((int) Math.max(1, java.time.Duration.between(created, now).toMinutes())));
+
+            // Tag sets are filled before the tags know their projects (Tag.hashCode covers projects)
+            Set<Tag> projectTags = new HashSet<>();
+            int tagsPerProject = random.nextInt(5);
+            for (int t = 0; t < tagsPerProject; t++) {
+                // Squared uniform -> a few popular tags, a long tail of rare ones
+                double skew = random.nextDouble();
+                projectTags.add(tags.get((int) (skew * skew * TAG_COUNT)));
+            }
+
+            projects.add(Project.builder()
+                    .id((long) i + 1)
+                    .title(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i)
+                    .description("Synthetic project " + i + ", with \"quotes\", commas and <markup> to escape")
+                    .status(ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)])
+                    .onGithub(random.nextBoolean())
+                    .githubUrl("https://github.com/bench/project-" + i)
+                    .localPath("/home/bench/projects/project-" + i)
+                    .whatTodo("Next step for project " + i)
+                    .createdDate(created)
+                    .lastWorkedOn(lastWorked)
+                    .updatedAt(lastWorked)
+                    .owner(owner)
+                    .tags(projectTags)
+                    .build());
+        }
+
+        for (Project project : projects) {
+            for (Tag tag : project.getTags()) {
+                tag.getProjects().add(project);
+            }
+        }
+
+        return new BenchmarkData(owner, tags, projects);
+    }
+
+    public User owner() {
+        return owner;
+    }
+
+    public List<Tag> tags() {
+        return tags;
+    }
+
+    public List<Project> projects() {
+        return projects;
+    }
+
+    /**
+     * Minimal dynamic stub: answers the named interface methods, null/0/false for everything else.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == long.class) return 0L;
+            if (returnType == int.class) return 0;
+            if (returnType == double.class) return 0.0;
+            if (returnType == boolean.class) return false;
+            return null;
+        });
+    }
+}
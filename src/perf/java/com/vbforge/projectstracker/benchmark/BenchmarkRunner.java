@@ -0,0 +1,25 @@
+package com.vbforge.projectstracker.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark profile.
+ * Accepts the regular JMH command line (e.g. "ExportBenchmark -p projectCount=10000")
+ * and always attaches the GC profiler so allocation rates (gc.alloc.rate.norm) are reported.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,40 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.service.impl.ExportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV and HTML export of the full project list
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int projectCount;
+
+    private BenchmarkData data;
+    private ExportServiceImpl exportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.generate(projectCount);
+        exportService = new ExportServiceImpl();
+    }
+
+    @Benchmark
+    public byte[] exportToCSV() {
+        return exportService.exportToCSV(data.projects(), data.owner());
+    }
+
+    @Benchmark
+    public byte[] exportToHTML() {
+        return exportService.exportToHTML(data.projects(), "Sorted by: Last Worked", data.owner());
+    }
+}
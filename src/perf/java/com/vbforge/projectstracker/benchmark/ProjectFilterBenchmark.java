@@ -0,0 +1,46 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.impl.ProjectFilterServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unfiltered listing through ProjectFilterServiceImpl, i.e. the in-memory sort (applySorting)
+ * for each supported sort order
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int projectCount;
+
+    @Param({"lastWorked", "created", "title"})
+    private String sortBy;
+
+    private BenchmarkData data;
+    private ProjectFilterServiceImpl filterService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.generate(projectCount);
+        ProjectService projectService = BenchmarkData.stub(ProjectService.class,
+                Map.of("getAllProjects", args -> data.projects()));
+        filterService = new ProjectFilterServiceImpl(projectService);
+    }
+
+    @Benchmark
+    public List<Project> applySorting() {
+        return filterService.getFilteredAndSortedProjects(
+                null, null, null, null, null, null, sortBy, data.owner());
+    }
+}
@@ -0,0 +1,40 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.mapper.ProjectMapper;
+import com.vbforge.projectstracker.mapper.TagMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO mapping of the full project list (tags included)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectMapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int projectCount;
+
+    private BenchmarkData data;
+    private ProjectMapper projectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.generate(projectCount);
+        projectMapper = new ProjectMapper(new TagMapper());
+    }
+
+    @Benchmark
+    public void toDTO(Blackhole blackhole) {
+        for (Project project : data.projects()) {
+            blackhole.consume(projectMapper.toDTO(project));
+        }
+    }
+}
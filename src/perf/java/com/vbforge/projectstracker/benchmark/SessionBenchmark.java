@@ -0,0 +1,121 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.config.CompactSessionSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request session overhead of the JDBC session store (H2 in memory, so without network
+ * latency): loading a logged-in session and saving its new last-access time, which is what
+ * SessionRepositoryFilter does on every request, plus the first save of a login.
+ * Compares the compact attribute format with plain Java serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionBenchmark {
+
+    @Param({"compact", "java"})
+    private String serialization;
+
+    private EmbeddedDatabase database;
+    private JdbcIndexedSessionRepository repository;
+    private SecurityContextImpl securityContext;
+    private DefaultCsrfToken csrfToken;
+    private String sessionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("sessions-" + UUID.randomUUID())
+                .addScript("org/springframework/session/jdbc/schema-h2.sql")
+                .build();
+        repository = new JdbcIndexedSessionRepository(new JdbcTemplate(database),
+                new TransactionTemplate(new DataSourceTransactionManager(database)));
+
+        ClassLoader classLoader = getClass().getClassLoader();
+        if (serialization.equals("compact")) {
+            repository.setConversionService(new CompactSessionSerializer(classLoader).asConversionService());
+        } else {
+            GenericConversionService conversionService = new GenericConversionService();
+            conversionService.addConverter(Object.class, byte[].class, new SerializingConverter());
+            conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(classLoader));
+            repository.setConversionService(conversionService);
+        }
+
+        User user = (User) User.withUsername("loaduser1").password("{bcrypt}hash").roles("USER").build();
+        user.eraseCredentials();
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails("10.0.0.1", UUID.randomUUID().toString()));
+        securityContext = new SecurityContextImpl(authentication);
+        csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", UUID.randomUUID().toString());
+
+        sessionId = login();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    // Every authenticated request: load the session (with its attributes), touch, save
+    @Benchmark
+    public Session request() {
+        return touch(repository, sessionId);
+    }
+
+    // Successful login: a new session row plus the security context and CSRF token attributes
+    @Benchmark
+    public String loginSave() {
+        String id = login();
+        repository.deleteById(id);
+        return id;
+    }
+
+    private String login() {
+        return login(repository);
+    }
+
+    // Generic over the session type, JdbcIndexedSessionRepository's is package-private
+    private static <S extends Session> S touch(SessionRepository<S> repository, String id) {
+        S session = repository.findById(id);
+        // Read by the security filter chain on every request
+        session.getAttribute("SPRING_SECURITY_CONTEXT");
+        session.setLastAccessedTime(Instant.now());
+        repository.save(session);
+        return session;
+    }
+
+    private <S extends Session> String login(SessionRepository<S> repository) {
+        S session = repository.createSession();
+        session.setAttribute("SPRING_SECURITY_CONTEXT", securityContext);
+        session.setAttribute("org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository.CSRF_TOKEN", csrfToken);
+        repository.save(session);
+        return session.getId();
+    }
+}
@@ -0,0 +1,106 @@
+package com.vbforge.projectstracker.benchmark;
+
+import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.mapper.ProjectMapper;
+import com.vbforge.projectstracker.mapper.TagMapper;
+import com.vbforge.projectstracker.repository.DailyStatisticsRepository;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.StatisticsRollupStateRepository;
+import com.vbforge.projectstracker.service.TagService;
+import com.vbforge.projectstracker.service.impl.StatisticsServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatisticsServiceImpl aggregations over an in-memory repository,
+ * i.e. the Java-side cost of each statistics chart without database latency
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int projectCount;
+
+    private BenchmarkData data;
+    private StatisticsServiceImpl statisticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.generate(projectCount);
+        long done = data.projects().stream().filter(p -> p.getStatus() == ProjectStatus.DONE).count();
+        ProjectRepository projectRepository = BenchmarkData.stub(ProjectRepository.class, Map.of(
+                "findAllByOwner", args -> data.projects(),
+                "countByOwner", args -> (long) data.projects().size(),
+                "countByStatusAndOwner", args -> args[0] == ProjectStatus.DONE ? done : 0L));
+        // No rollup: every statistic is computed from the project list
+        DailyStatisticsRepository dailyStatisticsRepository = BenchmarkData.stub(DailyStatisticsRepository.class, Map.of(
+                "findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc", args -> Optional.empty()));
+        StatisticsRollupStateRepository rollupStateRepository = BenchmarkData.stub(StatisticsRollupStateRepository.class, Map.of(
+                "findById", args -> Optional.empty()));
+        // Tag ranking runs in SQL (GROUP BY ... LIMIT); the stub answers with the precomputed ranking
+        Map<Long, TagUsageDTO> usage = new HashMap<>();
+        for (Project project : data.projects()) {
+            for (Tag tag : project.getTags()) {
+                usage.computeIfAbsent(tag.getId(), id -> new TagUsageDTO(id, tag.getName(), tag.getColor(), 0L))
+                        .setProjectCount(usage.get(tag.getId()).getProjectCount() + 1);
+            }
+        }
+        List<TagUsageDTO> ranking = usage.values().stream()
+                .sorted(Comparator.comparing(TagUsageDTO::getProjectCount).reversed())
+                .toList();
+        TagService tagService = BenchmarkData.stub(TagService.class, Map.of(
+                "getTagUsage", args -> ranking.subList(0, Math.min((int) args[1], ranking.size()))));
+        statisticsService = new StatisticsServiceImpl(projectRepository, new ProjectMapper(new TagMapper()),
+                dailyStatisticsRepository, rollupStateRepository, tagService);
+    }
+
+    @Benchmark
+    public Map<String, Long> projectsByStatus() {
+        return statisticsService.getProjectsByStatus(data.owner());
+    }
+
+    @Benchmark
+    public Map<String, Long> gitHubVsLocal() {
+        return statisticsService.getGitHubVsLocal(data.owner());
+    }
+
+    @Benchmark
+    public Map<String, Long> projectsCreatedByMonth() {
+        return statisticsService.getProjectsCreatedByMonth(data.owner());
+    }
+
+    @Benchmark
+    public Map<String, Long> topTags() {
+        return statisticsService.getTopTags(10, data.owner());
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectActivityData() {
+        return statisticsService.getProjectActivityData(data.owner());
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectActivityTop12() {
+        return statisticsService.getProjectActivityData(data.owner(), 12);
+    }
+
+    @Benchmark
+    public double averageDaysSinceLastWorked() {
+        return statisticsService.getAverageDaysSinceLastWorked(data.owner());
+    }
+}
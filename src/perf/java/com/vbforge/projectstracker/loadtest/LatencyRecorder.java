@@ -0,0 +1,73 @@
+package com.vbforge.projectstracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects raw latencies per endpoint and prints p50/p95/p99 and throughput.
+ * All samples are kept (a run produces at most a few million longs), so percentiles are exact.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        Samples s = samples.computeIfAbsent(endpoint, key -> new Samples());
+        s.add(nanos);
+        if (!success) {
+            s.errors.incrementAndGet();
+        }
+    }
+
+    public void printReport(double elapsedSeconds) {
+        System.out.printf("%n%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        System.out.println("-".repeat(96));
+
+        samples.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long[] sorted = entry.getValue().sorted();
+                    System.out.printf("%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                            entry.getKey(),
+                            sorted.length,
+                            entry.getValue().errors.get(),
+                            sorted.length / elapsedSeconds,
+                            millis(percentile(sorted, 0.50)),
+                            millis(percentile(sorted, 0.95)),
+                            millis(percentile(sorted, 0.99)),
+                            millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+                });
+    }
+
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Samples {
+        private final List<Long> values = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long nanos) {
+            values.add(nanos);
+        }
+
+        synchronized long[] sorted() {
+            long[] result = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.vbforge.projectstracker.loadtest;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end load test against a running instance (seeded with app.seed.users, see PERFORMANCE_TESTING.md).
+ *
+ * Every virtual user logs in as one of the seeded users (form login incl. CSRF token, own cookie jar)
+ * and then loops over the realistic mix of pages until the duration is over:
+ * dashboard with and without filters, statistics, CSV and HTML export.
+ *
+ * Options (all optional):
+ *   --base-url=http://localhost:8080
+ *   --concurrency=20        virtual users running in parallel
+ *   --duration=60           seconds of measurement
+ *   --seeded-users=50       how many seeded accounts to spread the virtual users over
+ *   --username-prefix=loaduser
+ *   --password=password
+ */
+public class LoadTestHarness {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    private static final String[][] SCENARIO = {
+            {"GET /projects", "/projects"},
+            {"GET /projects?status", "/projects?status=IN_PROGRESS&sortBy=lastWorked"},
+            {"GET /projects?search", "/projects?search=spring&sortBy=title"},
+            {"GET /statistics", "/statistics"},
+            {"GET /export/csv", "/export/csv"},
+            {"GET /export/html", "/export/html"},
+    };
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final int seededUsers;
+    private final String usernamePrefix;
+    private final String password;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    LoadTestHarness(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "20"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.seededUsers = Integer.parseInt(options.getOrDefault("seeded-users", "50"));
+        this.usernamePrefix = options.getOrDefault("username-prefix", "loaduser");
+        this.password = options.getOrDefault("password", "password");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness(parseOptions(args)).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Load test: %s, %d virtual users for %ds%n",
+                baseUrl, concurrency, duration.toSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+
+        List<Future<?>> users = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            String username = usernamePrefix + (i % seededUsers + 1);
+            users.add(executor.submit(() -> {
+                runVirtualUser(username, deadline);
+                return null;
+            }));
+        }
+        for (Future<?> user : users) {
+            user.get();
+        }
+        executor.shutdown();
+
+        recorder.printReport((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private void runVirtualUser(String username, long deadline) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        if (!login(client, username)) {
+            return;
+        }
+
+        int step = 0;
+        while (System.nanoTime() < deadline) {
+            String[] request = SCENARIO[step++ % SCENARIO.length];
+            HttpResponse<byte[]> response = timed(client, request[0], get(request[1]));
+            if (response != null && response.statusCode() == 302) {
+                // Session lost (e.g. restart) - log in again
+                login(client, username);
+            }
+        }
+    }
+
+    private boolean login(HttpClient client, String username) throws Exception {
+        HttpResponse<byte[]> loginPage = timed(client, "GET /login", get("/login"));
+        if (loginPage == null) {
+            return false;
+        }
+        Matcher matcher = CSRF_INPUT.matcher(new String(loginPage.body(), StandardCharsets.UTF_8));
+        if (!matcher.find()) {
+            System.err.println("No CSRF token on login page");
+            return false;
+        }
+
+        String form = "username=" + encode(username)
+                + "&password=" + encode(password)
+                + "&_csrf=" + encode(matcher.group(1));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+
+        HttpResponse<byte[]> response = timed(client, "POST /login", request);
+        boolean success = response != null
+                && response.headers().firstValue("Location").map(location -> !location.contains("error")).orElse(false);
+        if (!success) {
+            System.err.println("Login failed for " + username);
+        }
+        return success;
+    }
+
+    private HttpResponse<byte[]> timed(HttpClient client, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (Exception e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,81 @@
+package com.vbforge.projectstracker.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactSessionSerializer Tests")
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+
+    @Test
+    @DisplayName("Should round-trip a login's security context in a fraction of Java serialization")
+    void shouldRoundTripSecurityContext() {
+        SecurityContextImpl context = new SecurityContextImpl(loggedIn());
+
+        byte[] compact = serializer.serialize(context);
+        byte[] java = new SerializingConverter().convert(context);
+
+        assertThat(compact.length).isLessThan(java.length / 5);
+        SecurityContextImpl restored = (SecurityContextImpl) serializer.deserialize(compact);
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+        assertThat(((User) restored.getAuthentication().getPrincipal()).isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should round-trip CSRF tokens and strings")
+    void shouldRoundTripCsrfTokenAndString() {
+        DefaultCsrfToken token = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "3f1c2a");
+
+        DefaultCsrfToken restored = (DefaultCsrfToken) serializer.deserialize(serializer.serialize(token));
+
+        assertThat(restored.getToken()).isEqualTo("3f1c2a");
+        assertThat(restored.getParameterName()).isEqualTo("_csrf");
+        assertThat(serializer.deserialize(serializer.serialize("grid"))).isEqualTo("grid");
+    }
+
+    @Test
+    @DisplayName("Should fall back to Java serialization for everything else")
+    void shouldFallBackToJavaSerialization() {
+        User user = (User) User.withUsername("alice").password("x").roles("USER").build();
+        SecurityContextImpl rememberMe = new SecurityContextImpl(
+                new RememberMeAuthenticationToken("key", user, user.getAuthorities()));
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+
+        byte[] bytes = serializer.serialize(rememberMe);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0xAC);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(rememberMe);
+        assertThat(serializer.deserialize(serializer.serialize(list))).isEqualTo(list);
+    }
+
+    @Test
+    @DisplayName("Should read attributes written by plain Java serialization")
+    void shouldReadLegacyRows() {
+        SecurityContextImpl context = new SecurityContextImpl(loggedIn());
+
+        assertThat(serializer.deserialize(new SerializingConverter().convert(context))).isEqualTo(context);
+    }
+
+    private static UsernamePasswordAuthenticationToken loggedIn() {
+        User user = (User) User.withUsername("alice").password("{bcrypt}hash").roles("USER").build();
+        user.eraseCredentials();
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails("10.0.0.1", "a1b2c3"));
+        return authentication;
+    }
+}
@@ -3,7 +3,9 @@ package com.vbforge.projectstracker.controller;
 import com.vbforge.projectstracker.dto.RegisterDTO;
 import com.vbforge.projectstracker.entity.Role;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.service.AccountDeletionService;
 import com.vbforge.projectstracker.service.UserService;
+import com.vbforge.projectstracker.util.SecurityUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +49,12 @@ class AuthControllerTest {
     @MockitoBean
     private UserService userService; // mock dependency
 
+    @MockitoBean
+    private AccountDeletionService accountDeletionService;
+
+    @MockitoBean
+    private SecurityUtils securityUtils;
+
     @Test
     @WithAnonymousUser
     @DisplayName("Should show login page when not authenticated")
@@ -297,4 +305,45 @@ class AuthControllerTest {
 
         verify(userService, never()).register(any());
     }
+
+    @Test
+    @DisplayName("Should show the account page")
+    void shouldShowAccountPage() throws Exception {
+        User user = User.builder().id(1L).username("testuser").email("test@example.com").role(Role.USER).build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+
+        mockMvc.perform(get("/account"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("account"))
+                .andExpect(model().attribute("user", user));
+    }
+
+    @Test
+    @DisplayName("Should request account deletion and sign out")
+    void shouldRequestAccountDeletion() throws Exception {
+        User user = User.builder().id(1L).username("testuser").role(Role.USER).build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(userService.passwordMatches(user, "secret")).thenReturn(true);
+
+        mockMvc.perform(post("/account/delete").with(csrf()).param("password", "secret"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login?deleted=true"));
+
+        verify(accountDeletionService).requestDeletion(user);
+    }
+
+    @Test
+    @DisplayName("Should keep the account when the password is wrong")
+    void shouldNotDeleteAccountWithWrongPassword() throws Exception {
+        User user = User.builder().id(1L).username("testuser").role(Role.USER).build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(userService.passwordMatches(user, "wrong")).thenReturn(false);
+
+        mockMvc.perform(post("/account/delete").with(csrf()).param("password", "wrong"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/account"))
+                .andExpect(flash().attributeExists("errorMessage"));
+
+        verify(accountDeletionService, never()).requestDeletion(any());
+    }
 }
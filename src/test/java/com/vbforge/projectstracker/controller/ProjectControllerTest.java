@@ -1,6 +1,8 @@
 package com.vbforge.projectstracker.controller;
 
 import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.ProjectFragmentCache;
 import com.vbforge.projectstracker.service.ProjectService;
 import com.vbforge.projectstracker.service.TagService;
 import com.vbforge.projectstracker.util.SecurityUtils;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -36,6 +39,12 @@ class ProjectControllerTest {
     @MockitoBean
     private TagService tagService;
 
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
+    @MockitoBean
+    private ProjectFragmentCache projectFragmentCache;
+
     @MockitoBean
     private SecurityUtils securityUtils;
 
@@ -47,7 +56,7 @@ class ProjectControllerTest {
         when(securityUtils.getCurrentUser()).thenReturn(user);
         when(projectService.getAllProjects(user)).thenReturn(List.of());
         when(projectService.getTotalProjectCount(user)).thenReturn(0L);
-        when(tagService.getAllTagsOrderedByPopularity(user)).thenReturn(List.of());
+        when(tagService.getTagUsage(user, 0)).thenReturn(List.of());
 
         mockMvc.perform(get("/projects"))
                 .andExpect(status().isOk())
@@ -55,6 +64,22 @@ class ProjectControllerTest {
                 .andExpect(model().attributeExists("projects", "totalProjects"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("Should resolve the undo form against the context path")
+    void shouldResolveUndoUrlAgainstContextPath() throws Exception {
+        User user = User.builder().id(1L).username("testuser").build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(projectService.getAllProjects(user)).thenReturn(List.of());
+        when(tagService.getTagUsage(user, 0)).thenReturn(List.of());
+
+        mockMvc.perform(get("/app/projects").contextPath("/app")
+                        .flashAttr("success", "Project deleted")
+                        .flashAttr("undoUrl", "/projects/5/restore"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("action=\"/app/projects/5/restore\"")));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("Should show new project form")
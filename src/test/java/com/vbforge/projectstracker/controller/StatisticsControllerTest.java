@@ -1,25 +1,38 @@
 package com.vbforge.projectstracker.controller;
 
+import com.vbforge.projectstracker.config.AsyncConfig;
+import com.vbforge.projectstracker.dto.HeatmapDTO;
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineDTO;
+import com.vbforge.projectstracker.dto.TimelineField;
 import com.vbforge.projectstracker.entity.Role;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
+import com.vbforge.projectstracker.service.ActivityCalendarService;
+import com.vbforge.projectstracker.service.DataVersionService;
 import com.vbforge.projectstracker.service.StatisticsService;
+import com.vbforge.projectstracker.service.impl.StatisticsDashboardServiceImpl;
 import com.vbforge.projectstracker.util.SecurityUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 //import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.*;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(StatisticsController.class)
+@Import({StatisticsDashboardServiceImpl.class, AsyncConfig.class})
 @DisplayName("StatisticsController Tests")
 class StatisticsControllerTest {
 
@@ -29,6 +42,12 @@ class StatisticsControllerTest {
     @MockitoBean
     private StatisticsService statisticsService;
 
+    @MockitoBean
+    private ActivityCalendarService activityCalendarService;
+
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
     @MockitoBean
     private SecurityUtils securityUtils;
 
@@ -56,7 +75,7 @@ class StatisticsControllerTest {
         
         when(statisticsService.getProjectsCreatedByMonth(user)).thenReturn(new LinkedHashMap<>());
         when(statisticsService.getTopTags(10, user)).thenReturn(new LinkedHashMap<>());
-        when(statisticsService.getProjectActivityData(user)).thenReturn(new ArrayList<>());
+        when(statisticsService.getProjectActivityData(user, 12)).thenReturn(new ArrayList<>());
 
         mockMvc.perform(get("/statistics"))
                 .andExpect(status().isOk())
@@ -82,4 +101,66 @@ class StatisticsControllerTest {
                 .andExpect(view().name("statistics"))
                 .andExpect(model().attributeExists("error"));
     }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return timeline JSON")
+    void shouldReturnTimelineJson() throws Exception {
+        User user = User.builder().id(1L).username("testuser").build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(statisticsService.getProjectTimeline(user, TimelineField.CREATED,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), TimeBucket.QUARTER))
+                .thenReturn(TimelineDTO.builder()
+                        .field(TimelineField.CREATED)
+                        .bucket(TimeBucket.QUARTER)
+                        .labels(List.of("2026-Q1"))
+                        .data(List.of(3L))
+                        .build());
+
+        mockMvc.perform(get("/statistics/timeline")
+                        .param("bucket", "QUARTER")
+                        .param("from", "2026-01-01")
+                        .param("to", "2026-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.labels[0]").value("2026-Q1"))
+                .andExpect(jsonPath("$.data[0]").value(3));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should reject invalid timeline range")
+    void shouldRejectInvalidTimelineRange() throws Exception {
+        User user = User.builder().id(1L).username("testuser").build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(statisticsService.getProjectTimeline(any(), any(), any(), any(), any()))
+                .thenThrow(new InvalidOperationException("Timeline range start is after its end"));
+
+        mockMvc.perform(get("/statistics/timeline")
+                        .param("from", "2026-03-01")
+                        .param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return heatmap JSON for the last 365 days by default")
+    void shouldReturnHeatmapJson() throws Exception {
+        User user = User.builder().id(1L).username("testuser").build();
+        LocalDate today = LocalDate.now();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(activityCalendarService.getHeatmap(user, today.minusDays(364), today))
+                .thenReturn(HeatmapDTO.builder()
+                        .from(today.minusDays(364))
+                        .to(today)
+                        .counts(List.of(0, 2))
+                        .total(2)
+                        .max(2)
+                        .build());
+
+        mockMvc.perform(get("/statistics/heatmap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts[1]").value(2))
+                .andExpect(jsonPath("$.total").value(2));
+    }
 }
@@ -4,6 +4,7 @@ import com.vbforge.projectstracker.entity.Role;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
 import com.vbforge.projectstracker.service.TagService;
+import com.vbforge.projectstracker.service.DataVersionService;
 import com.vbforge.projectstracker.util.SecurityUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -33,6 +35,9 @@ class TagControllerTest {
     @MockitoBean
     private TagService tagService;
 
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
     @MockitoBean
     private SecurityUtils securityUtils;
 
@@ -53,6 +58,21 @@ class TagControllerTest {
                 .andExpect(model().attribute("totalTags", 1));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("Should resolve the undo form against the context path")
+    void shouldResolveUndoUrlAgainstContextPath() throws Exception {
+        User user = User.builder().id(1L).username("testuser").role(Role.USER).build();
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(tagService.getAllTagsOrderedByPopularity(user)).thenReturn(List.of());
+
+        mockMvc.perform(get("/app/tags").contextPath("/app")
+                        .flashAttr("success", "Tag deleted")
+                        .flashAttr("undoUrl", "/tags/3/restore"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("action=\"/app/tags/3/restore\"")));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("Should create tag successfully")
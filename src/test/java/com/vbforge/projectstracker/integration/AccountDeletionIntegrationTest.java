@@ -0,0 +1,188 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.repository.DailyStatisticsRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.AccountDeletionService;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Account Deletion Integration Test
+ * Removes a user and all of their data in chunks, records progress and resumes at the recorded stage.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.account-deletion.batch-size=2")
+@DisplayName("Account Deletion Integration Test")
+class AccountDeletionIntegrationTest {
+
+    // Tables holding the user's rows, with their owner column
+    private static final List<String[]> OWNED_TABLES = List.of(
+            new String[]{"outbox_events", "owner_id"},
+            new String[]{"cache_invalidations", "owner_id"},
+            new String[]{"project_activity", "owner_id"},
+            new String[]{"activity_calendar", "owner_id"},
+            new String[]{"daily_statistics", "user_id"},
+            new String[]{"projects", "user_id"},
+            new String[]{"tags", "user_id"});
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Autowired
+    private PersistentTokenRepository tokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User bystander;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = createUserWithData("leaving");
+        bystander = createUserWithData("staying");
+        changeOutbox.relay();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should remove the user and all of their rows in chunks")
+    void shouldDeleteAccount() {
+        long ownedRows = OWNED_TABLES.stream().mapToLong(table -> count(table[0], table[1], owner.getId())).sum();
+        assertThat(count("project_activity", "owner_id", owner.getId())).isPositive();
+
+        AccountDeletion requested = accountDeletionService.requestDeletion(owner);
+
+        assertThat(requested.getStage()).isEqualTo(AccountDeletionStage.OUTBOX);
+        assertThat(userRepository.findById(owner.getId()).orElseThrow().isEnabled()).isFalse();
+        assertThat(tokenRepository.getTokenForSeries("series-leaving")).isNull();
+
+        assertThat(accountDeletionService.processPending()).isEqualTo(1);
+
+        OWNED_TABLES.forEach(table -> assertThat(count(table[0], table[1], owner.getId())).as(table[0]).isZero());
+        assertThat(userRepository.findById(owner.getId())).isEmpty();
+
+        AccountDeletion done = accountDeletionService.getDeletion(owner.getId()).orElseThrow();
+        assertThat(done.getStage()).isEqualTo(AccountDeletionStage.DONE);
+        assertThat(done.getCompletedAt()).isNotNull();
+        // + 4 project_tags links and the user row
+        assertThat(done.getRowsDeleted()).isEqualTo(ownedRows + 5);
+
+        // Other users keep everything
+        assertThat(count("projects", "user_id", bystander.getId())).isEqualTo(4);
+        assertThat(tokenRepository.getTokenForSeries("series-staying")).isNotNull();
+        assertThat(accountDeletionService.processPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resume at the recorded stage and sweep rows written meanwhile")
+    void shouldResumeAtRecordedStage() {
+        accountDeletionService.requestDeletion(owner);
+        // As if an earlier run had got through OUTBOX and ACTIVITY before it was interrupted
+        jdbcTemplate.update("UPDATE account_deletions SET stage = 'STATISTICS' WHERE user_id = ?", owner.getId());
+
+        accountDeletionService.processPending();
+
+        OWNED_TABLES.forEach(table -> assertThat(count(table[0], table[1], owner.getId())).as(table[0]).isZero());
+        assertThat(userRepository.findById(owner.getId())).isEmpty();
+        assertThat(accountDeletionService.getDeletion(owner.getId()).orElseThrow().getStage())
+                .isEqualTo(AccountDeletionStage.DONE);
+    }
+
+    @Test
+    @DisplayName("Should return the deletion in progress when asked again")
+    void shouldRequestOnce() {
+        AccountDeletion first = accountDeletionService.requestDeletion(owner);
+        AccountDeletion second = accountDeletionService.requestDeletion(owner);
+
+        assertThat(second.getUserId()).isEqualTo(first.getUserId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_deletions", Long.class)).isEqualTo(1);
+    }
+
+    // 4 projects (one soft-deleted), 2 tags, 4 links, activity, a statistics row and a remember-me token
+    private User createUserWithData(String username) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        Tag java = tagService.saveTag(Tag.builder().name("java").owner(user).build());
+        Tag web = tagService.saveTag(Tag.builder().name("web").owner(user).build());
+        projectService.saveProject(project("First", user), List.of(java.getId(), web.getId()));
+        projectService.saveProject(project("Second", user), List.of(java.getId()));
+        Project deleted = projectService.saveProject(project("Deleted", user), List.of(web.getId()));
+        projectService.deleteProject(deleted.getId(), user);
+        projectService.saveProject(project("Third", user));
+        dailyStatisticsRepository.save(DailyStatistics.builder()
+                .owner(user)
+                .statDate(LocalDate.now().minusDays(1))
+                .createdCount(1)
+                .workedCount(1)
+                .computedAt(LocalDateTime.now())
+                .build());
+        tokenRepository.createNewToken(new PersistentRememberMeToken(username, "series-" + username, "token", new Date()));
+        return user;
+    }
+
+    private static Project project(String title, User owner) {
+        return Project.builder().title(title).status(ProjectStatus.IN_PROGRESS).owner(owner).build();
+    }
+
+    private long count(String table, String ownerColumn, Long ownerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + ownerColumn + " = ?", Long.class, ownerId);
+    }
+
+    private void cleanUp() {
+        for (String username : List.of("leaving", "staying")) {
+            userRepository.findByUsername(username).ifPresent(user -> {
+                accountDeletionService.requestDeletion(user);
+                tokenRepository.removeUserTokens(username);
+            });
+        }
+        accountDeletionService.processPending();
+        jdbcTemplate.update("DELETE FROM account_deletions");
+    }
+}
@@ -0,0 +1,131 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.dto.HeatmapDTO;
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
+import com.vbforge.projectstracker.repository.ActivityCalendarRepository;
+import com.vbforge.projectstracker.repository.OutboxEventRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.ActivityCalendarService;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Activity Heatmap Integration Test
+ * Project writes increment the owner's day counters once relayed; heatmaps read the yearly rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Activity Heatmap Integration Test")
+class ActivityHeatmapIntegrationTest {
+
+    @Autowired
+    private ActivityCalendarService activityCalendarService;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private ActivityCalendarRepository calendarRepository;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = userRepository.save(User.builder()
+                .username("heatmap")
+                .email("heatmap@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should count relayed project writes on the day they happened")
+    void shouldCountRelayedWrites() {
+        Project project = projectService.saveProject(Project.builder()
+                .title("Hot")
+                .status(ProjectStatus.NOT_STARTED)
+                .owner(owner)
+                .createdDate(LocalDateTime.now())
+                .lastWorkedOn(LocalDateTime.now())
+                .build());
+        projectService.updateProject(project.getId(), Project.builder()
+                .title("Hotter")
+                .status(ProjectStatus.IN_PROGRESS)
+                .onGithub(false)
+                .build(), owner);
+        changeOutbox.relay();
+        projectService.deleteProject(project.getId(), owner);
+        changeOutbox.relay();
+
+        LocalDate today = LocalDate.now();
+        HeatmapDTO heatmap = activityCalendarService.getHeatmap(owner, today.minusDays(364), today);
+
+        assertThat(heatmap.getCounts()).hasSize(365);
+        assertThat(heatmap.getCounts().get(364)).isEqualTo(3);
+        assertThat(heatmap.getTotal()).isEqualTo(3);
+        assertThat(heatmap.getMax()).isEqualTo(3);
+        assertThat(calendarRepository.findByOwnerIdAndYearBetween(owner.getId(), today.getYear(), today.getYear())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should combine the yearly counters of a range spanning new year")
+    void shouldSpanYears() {
+        ActivityCalendar previous = ActivityCalendar.empty(owner.getId(), 2025);
+        previous.add(LocalDate.of(2025, 12, 31).getDayOfYear(), 4);
+        ActivityCalendar current = ActivityCalendar.empty(owner.getId(), 2026);
+        current.add(1, 1);
+        current.add(1, 1);
+        calendarRepository.save(previous);
+        calendarRepository.save(current);
+
+        HeatmapDTO heatmap = activityCalendarService.getHeatmap(owner, LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 2));
+
+        assertThat(heatmap.getCounts()).containsExactly(0, 4, 2, 0);
+        assertThat(heatmap.getTotal()).isEqualTo(6);
+        assertThatThrownBy(() -> activityCalendarService.getHeatmap(owner, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    private void cleanUp() {
+        calendarRepository.deleteAllInBatch();
+        outboxEventRepository.deleteAllInBatch();
+        // Soft-deleted rows would block the user delete (undo window is 0s in tests)
+        softDeleteService.purgeExpired();
+        userRepository.findByUsername("heatmap").ifPresent(userRepository::delete);
+    }
+}
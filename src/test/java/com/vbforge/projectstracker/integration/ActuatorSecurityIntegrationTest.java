@@ -0,0 +1,76 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator Security Integration Test
+ * Health is open; metrics (and the Prometheus scrape) need the scrape user, not an application login.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.metrics.username=scraper",
+        "app.metrics.password=scrape-secret"
+})
+@DisplayName("Actuator Security Integration Test")
+class ActuatorSecurityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("appuser").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Should leave the health probe open")
+    void shouldPermitHealth() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should require the scrape user for metrics")
+    void shouldProtectMetrics() throws Exception {
+        userRepository.save(User.builder()
+                .username("appuser")
+                .email("appuser@example.com")
+                .password(passwordEncoder.encode("password"))
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("appuser", "password")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,151 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.ProjectsTrackerApplication;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.CacheInvalidationBus;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.TagService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache Coherence Integration Test
+ * Two application contexts ("nodes") on one H2 database: writes on one node reach the
+ * other node's caches through the cache_invalidations outbox.
+ */
+@DisplayName("Cache Coherence Integration Test")
+class CacheCoherenceIntegrationTest {
+
+    private static final String DATABASE_URL =
+            "jdbc:h2:mem:cache-bus;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a", "create-drop");
+        // Shares node A's schema
+        nodeB = startNode("node-b", "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("Should deliver each node's committed writes to the other node only")
+    void shouldDeliverWritesAcrossNodes() {
+        User owner = nodeA.getBean(UserRepository.class).save(User.builder()
+                .username("coherent")
+                .email("coherent@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        List<CacheInvalidatedEvent> onA = record(nodeA);
+        List<CacheInvalidatedEvent> onB = record(nodeB);
+        drain();
+
+        // Project written on node A
+        Project project = nodeA.getBean(ProjectService.class).saveProject(Project.builder()
+                .title("Coherent")
+                .status(ProjectStatus.NOT_STARTED)
+                .owner(owner)
+                .createdDate(LocalDateTime.now())
+                .lastWorkedOn(LocalDateTime.now())
+                .build());
+
+        assertThat(nodeA.getBean(CacheInvalidationBus.class).poll()).isZero();
+        assertThat(nodeB.getBean(CacheInvalidationBus.class).poll()).isEqualTo(1);
+        assertThat(onB).containsExactly(new CacheInvalidatedEvent(owner.getId(), CacheRegion.PROJECT, project.getId()));
+
+        // Tag written on node B
+        TagService tagsOnB = nodeB.getBean(TagService.class);
+        Tag tag = tagsOnB.saveTag(Tag.builder().name("shared").color("#e7f3ff").owner(owner).build());
+        tagsOnB.updateTag(tag.getId(), Tag.builder().name("renamed").color("#e7f3ff").build(), owner);
+
+        assertThat(nodeA.getBean(CacheInvalidationBus.class).poll()).isEqualTo(1);
+        assertThat(onA).containsExactly(new CacheInvalidatedEvent(owner.getId(), CacheRegion.TAG, tag.getId()));
+        assertThat(nodeB.getBean(CacheInvalidationBus.class).poll()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep cached remember-me tokens coherent across nodes in the default configuration")
+    void shouldShareRememberMeTokensAcrossNodes() {
+        PersistentTokenRepository tokensOnA = nodeA.getBean(PersistentTokenRepository.class);
+        PersistentTokenRepository tokensOnB = nodeB.getBean(PersistentTokenRepository.class);
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        drain();
+
+        tokensOnA.createNewToken(new PersistentRememberMeToken("roaming", "series-r", "first", new Date()));
+        assertThat(tokensOnB.getTokenForSeries("series-r").getTokenValue()).isEqualTo("first");
+        // Node B serves the series from memory now
+        jdbcTemplate.update("UPDATE persistent_logins SET token = 'changed behind its back' WHERE series = 'series-r'");
+        assertThat(tokensOnB.getTokenForSeries("series-r").getTokenValue()).isEqualTo("first");
+
+        // A rotation on node A is written through and evicted on node B by the next poll
+        tokensOnA.updateToken("series-r", "second", new Date());
+        assertThat(nodeB.getBean(CacheInvalidationBus.class).poll()).isEqualTo(1);
+        assertThat(tokensOnB.getTokenForSeries("series-r").getTokenValue()).isEqualTo("second");
+
+        // So is a logout
+        tokensOnA.removeUserTokens("roaming");
+        assertThat(nodeB.getBean(CacheInvalidationBus.class).poll()).isEqualTo(1);
+        assertThat(tokensOnB.getTokenForSeries("series-r")).isNull();
+        assertThat(nodeA.getBean(CacheInvalidationBus.class).poll()).isZero();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(ProjectsTrackerApplication.class).run(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--app.cache-bus.node-id=" + nodeId);
+    }
+
+    private static List<CacheInvalidatedEvent> record(ConfigurableApplicationContext node) {
+        List<CacheInvalidatedEvent> received = new CopyOnWriteArrayList<>();
+        node.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+            if (event instanceof PayloadApplicationEvent<?> payload
+                    && payload.getPayload() instanceof CacheInvalidatedEvent invalidated) {
+                received.add(invalidated);
+            }
+        });
+        return received;
+    }
+
+    // Skip rows written before the test (e.g. by startup code)
+    private static void drain() {
+        nodeA.getBean(CacheInvalidationBus.class).poll();
+        nodeB.getBean(CacheInvalidationBus.class).poll();
+    }
+}
@@ -0,0 +1,204 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityChange;
+import com.vbforge.projectstracker.event.EntityChangeBatch;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.repository.OutboxEventRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import com.vbforge.projectstracker.service.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Change Outbox Integration Test
+ * Writes through the services and relays the outbox to an in-process subscriber.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Change Outbox Integration Test")
+class ChangeOutboxIntegrationTest {
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = userRepository.save(User.builder()
+                .username("outbox")
+                .email("outbox@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should relay committed writes once, in order, with the changed fields")
+    void shouldRelayCommittedWrites() {
+        Project project = projectService.saveProject(Project.builder()
+                .title("Outbox")
+                .status(ProjectStatus.NOT_STARTED)
+                .owner(owner)
+                .createdDate(LocalDateTime.now())
+                .lastWorkedOn(LocalDateTime.now())
+                .build());
+        projectService.updateProject(project.getId(), Project.builder()
+                .title("Renamed")
+                .status(ProjectStatus.NOT_STARTED)
+                .onGithub(false)
+                .build(), owner);
+        Tag tag = tagService.saveTag(Tag.builder().name("relay").color("#e7f3ff").owner(owner).build());
+        tagService.deleteTag(tag.getId(), owner);
+
+        assertThat(changeOutbox.relay()).isEqualTo(4);
+        List<EntityChange> changes = subscriber.received();
+        assertThat(changes).extracting(EntityChange::entityType, EntityChange::entityId, EntityChange::type)
+                .containsExactly(
+                        tuple(EntityType.PROJECT, project.getId(), ChangeType.CREATED),
+                        tuple(EntityType.PROJECT, project.getId(), ChangeType.UPDATED),
+                        tuple(EntityType.TAG, tag.getId(), ChangeType.CREATED),
+                        tuple(EntityType.TAG, tag.getId(), ChangeType.DELETED));
+        assertThat(changes).allMatch(change -> change.ownerId().equals(owner.getId()));
+        assertThat(changes.get(1).changedFields()).containsExactly("title", "lastWorkedOn");
+        assertThat(changes.get(0).changedFields()).isEmpty();
+
+        assertThat(changeOutbox.relay()).isZero();
+        assertThat(subscriber.received()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row in the same run")
+    void shouldRetryRowsAfterSubscriberFailure() {
+        Tag tag = tagService.saveTag(Tag.builder().name("retry").color("#e7f3ff").owner(owner).build());
+
+        subscriber.failNext = true;
+        assertThat(changeOutbox.relay()).isEqualTo(1);
+        assertThat(subscriber.received()).extracting(EntityChange::entityId).containsExactly(tag.getId());
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getAttempts).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Should deliver the other rows and dead-letter a row whose subscriber keeps failing")
+    void shouldDeadLetterPoisonRow() {
+        Tag first = tagService.saveTag(Tag.builder().name("first").color("#e7f3ff").owner(owner).build());
+        Tag poison = tagService.saveTag(Tag.builder().name("poison").color("#e7f3ff").owner(owner).build());
+        Tag last = tagService.saveTag(Tag.builder().name("last").color("#e7f3ff").owner(owner).build());
+        subscriber.failOn = poison.getId();
+
+        assertThat(changeOutbox.relay()).isEqualTo(2);
+        assertThat(subscriber.received()).extracting(EntityChange::entityId).containsExactly(first.getId(), last.getId());
+
+        Tag later = tagService.saveTag(Tag.builder().name("later").color("#e7f3ff").owner(owner).build());
+        assertThat(changeOutbox.relay()).isEqualTo(1);
+        assertThat(subscriber.received()).extracting(EntityChange::entityId).endsWith(later.getId());
+        assertThat(outboxEventRepository.countByFailedAtIsNotNull()).isZero();
+
+        // max-attempts is 5 - three more runs dead-letter the row
+        for (int run = 0; run < 3; run++) {
+            assertThat(changeOutbox.relay()).isZero();
+        }
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(outboxEventRepository.countByFailedAtIsNotNull()).isEqualTo(1);
+        OutboxEvent dead = outboxEventRepository.findAll().stream()
+                .filter(row -> row.getFailedAt() != null)
+                .findFirst().orElseThrow();
+        assertThat(dead.getEntityId()).isEqualTo(poison.getId());
+        assertThat(dead.getAttempts()).isEqualTo(5);
+
+        assertThat(changeOutbox.relay()).isZero();
+        assertThat(subscriber.received()).extracting(EntityChange::entityId).doesNotContain(poison.getId());
+    }
+
+    private void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        subscriber.reset();
+        // Soft-deleted rows would block the user delete (undo window is 0s in tests)
+        softDeleteService.purgeExpired();
+        userRepository.findByUsername("outbox").ifPresent(userRepository::delete);
+    }
+
+    static class RecordingSubscriber {
+
+        private final List<EntityChange> changes = new CopyOnWriteArrayList<>();
+        volatile boolean failNext;
+        volatile Long failOn;
+
+        @EventListener
+        public void onBatch(EntityChangeBatch batch) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("Subscriber failure");
+            }
+            if (batch.changes().stream().anyMatch(change -> change.entityId().equals(failOn))) {
+                throw new IllegalStateException("Subscriber failure on " + failOn);
+            }
+            changes.addAll(batch.changes());
+        }
+
+        List<EntityChange> received() {
+            return List.copyOf(changes);
+        }
+
+        void reset() {
+            changes.clear();
+            failNext = false;
+            failOn = null;
+        }
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+}
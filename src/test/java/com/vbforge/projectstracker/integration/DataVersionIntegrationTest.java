@@ -0,0 +1,119 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.DataVersionService;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import com.vbforge.projectstracker.service.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Data Version Integration Test
+ * The per-owner counter is persisted with the write and rolled back with it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Data Version Integration Test")
+class DataVersionIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        owner = userRepository.save(account("versioned"));
+        other = userRepository.save(account("bystander"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Deleted projects/tags would block the next cleanup's user delete (undo window is 0s in tests)
+        softDeleteService.purgeExpired();
+    }
+
+    @Test
+    @DisplayName("Should bump the owner's version on every project and tag write")
+    void shouldBumpOnEveryWrite() {
+        assertThat(dataVersionService.getVersion(owner)).isZero();
+
+        Tag tag = tagService.saveTag(Tag.builder().name("Java").color("#e7f3ff").owner(owner).build());
+        Project project = projectService.saveProject(Project.builder()
+                .title("Versioned").status(ProjectStatus.NOT_STARTED).onGithub(false).owner(owner).build());
+        projectService.addTagToProject(project.getId(), tag.getId(), owner);
+        tagService.deleteTag(tag.getId(), owner);
+        projectService.deleteProject(project.getId(), owner);
+
+        assertThat(dataVersionService.getVersion(owner)).isEqualTo(5);
+        assertThat(dataVersionService.getVersion(other)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the version when the write rolls back")
+    void shouldKeepVersionOnRollback() {
+        long before = dataVersionService.getVersion(owner);
+
+        // The tag is saved (and the version bumped) before the surrounding transaction fails
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            tagService.saveTag(Tag.builder().name("Java").color("#e7f3ff").owner(owner).build());
+            throw new ResourceNotFoundException("Project", "id", 999L);
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(tagRepository.findAllByOwner(owner)).isEmpty();
+        assertThat(dataVersionService.getVersion(owner)).isEqualTo(before);
+    }
+
+    private static User account(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build();
+    }
+}
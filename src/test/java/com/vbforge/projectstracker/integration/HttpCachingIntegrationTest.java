@@ -0,0 +1,140 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.TagService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * HTTP Caching Integration Test
+ * Conditional GET on rendered pages (ETag from the owner's data version) and
+ * content-hashed static assets.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("HTTP Caching Integration Test")
+class HttpCachingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    private User owner;
+    // Sessions live in Spring Session's JDBC store, so a session is carried by its cookie
+    private Cookie session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        owner = userRepository.save(User.builder()
+                .username("cache")
+                .email("cache@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        session = mockMvc.perform(get("/tags").with(user("cache")))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertThat(session).isNotNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/projects", "/tags", "/statistics"})
+    @DisplayName("Should answer a repeat view with 304")
+    void shouldAnswerRepeatViewWithNotModified(String page) throws Exception {
+        String etag = mockMvc.perform(get(page).cookie(session).with(user("cache")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get(page).cookie(session).with(user("cache")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should render again after a write")
+    void shouldRenderAgainAfterWrite() throws Exception {
+        String etag = mockMvc.perform(get("/tags").cookie(session).with(user("cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        tagService.saveTag(Tag.builder().name("Fresh").color("#e7f3ff").owner(owner).build());
+
+        String body = mockMvc.perform(get("/tags").cookie(session).with(user("cache"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains("Fresh");
+    }
+
+    @Test
+    @DisplayName("Should not match across sessions")
+    void shouldNotMatchAcrossSessions() throws Exception {
+        String etag = mockMvc.perform(get("/tags").cookie(session).with(user("cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tags").with(user("cache"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should link and serve content-hashed static assets with immutable caching")
+    void shouldServeHashedStaticAssets() throws Exception {
+        String body = mockMvc.perform(get("/tags").cookie(session).with(user("cache")))
+                .andReturn().getResponse().getContentAsString();
+
+        Matcher css = Pattern.compile("/css/main-styles-[0-9a-f]{32}\\.css").matcher(body);
+        Matcher logo = Pattern.compile("/images/logo-[0-9a-f]{32}\\.svg").matcher(body);
+        assertThat(css.find()).as("hashed stylesheet link").isTrue();
+        assertThat(logo.find()).as("hashed logo link").isTrue();
+
+        mockMvc.perform(get(css.group()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+        mockMvc.perform(get(logo.group()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+}
@@ -0,0 +1,138 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.LiveUpdateService;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Live Update Integration Test
+ * Opens the SSE stream and checks that committed project writes are pushed to the owner only.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Live Update Integration Test")
+class LiveUpdateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        owner = userRepository.save(account("live"));
+        other = userRepository.save(account("other"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Deleted projects/tags would block the next cleanup's user delete (undo window is 0s in tests)
+        softDeleteService.purgeExpired();
+    }
+
+    @Test
+    @DisplayName("Should push committed project changes to the owner's stream")
+    void shouldPushProjectChangesToOwner() throws Exception {
+        MvcResult ownerStream = openStream(owner);
+        MvcResult otherStream = openStream(other);
+
+        Project saved = projectService.saveProject(Project.builder()
+                .title("Live project")
+                .status(ProjectStatus.IN_PROGRESS)
+                .owner(owner)
+                .build());
+        projectService.deleteProject(saved.getId(), owner);
+
+        String body = ownerStream.getResponse().getContentAsString();
+        assertThat(body).contains("event:project");
+        assertThat(body).contains("\"type\":\"CREATED\"", "\"type\":\"DELETED\"");
+        assertThat(body).contains("\"totalProjects\":1", "\"totalProjects\":-1");
+        assertThat(body).doesNotContain("ownerId");
+        assertThat(otherStream.getResponse().getContentAsString()).doesNotContain("Live project");
+    }
+
+    @Test
+    @DisplayName("Should not push writes that are rolled back")
+    void shouldNotPushRolledBackWrites() throws Exception {
+        MvcResult ownerStream = openStream(owner);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            projectService.saveProject(Project.builder().title("Rolled back").owner(owner).build());
+            tx.setRollbackOnly();
+        });
+
+        assertThat(ownerStream.getResponse().getContentAsString()).doesNotContain("Rolled back");
+        assertThat(liveUpdateService.getSubscriberCount(owner)).isEqualTo(1);
+    }
+
+    private MvcResult openStream(User account) throws Exception {
+        return mockMvc.perform(get("/projects/events")
+                        // EventSource always sends this; QueryBudgetFilter never buffers such streams
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(account.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static User account(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build();
+    }
+}
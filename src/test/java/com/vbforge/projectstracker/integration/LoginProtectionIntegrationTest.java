@@ -0,0 +1,157 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login Protection Integration Test
+ * Failed-attempt limiting, login/registration rate limits, hash upgrade on login
+ * and the bounded hashing executor.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Login Protection Integration Test")
+class LoginProtectionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should refuse even the right password once a username has too many failures")
+    void shouldBlockAfterRepeatedFailures() throws Exception {
+        createUser("target", passwordEncoder.encode("secret"));
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(login("target", "wrong", "10.1.0." + i))
+                    .andExpect(unauthenticated());
+        }
+
+        mockMvc.perform(login("target", "secret", "10.1.0.99"))
+                .andExpect(unauthenticated());
+    }
+
+    @Test
+    @DisplayName("Should re-hash a legacy bcrypt password on successful login")
+    void shouldUpgradeLegacyHashOnLogin() throws Exception {
+        // As stored before the delegating encoder: no {id} prefix, lower work factor
+        createUser("legacy", new BCryptPasswordEncoder(4).encode("secret"));
+
+        mockMvc.perform(login("legacy", "secret", "10.2.0.1"))
+                .andExpect(authenticated());
+
+        String stored = userRepository.findByUsername("legacy").orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches("secret", stored)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 once a username's login bucket is empty")
+    void shouldRateLimitLoginPerUsername() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(login("flood", "wrong", "10.3.0." + i))
+                    .andExpect(status().is3xxRedirection());
+        }
+
+        mockMvc.perform(login("FLOOD", "wrong", "10.3.0.99"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        assertThat(meterRegistry.find("tracker.rate-limit.rejected").tag("key", "username").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 once an address's registration bucket is empty")
+    void shouldRateLimitRegistrationPerAddress() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/register").param("username", "new" + i).with(csrf()).with(from("10.4.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/register").param("username", "new5").with(csrf()).with(from("10.4.0.1")))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/register").param("username", "new5").with(csrf()).with(from("10.4.0.2")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should publish hashing executor metrics")
+    void shouldPublishHashingExecutorMetrics() {
+        passwordEncoder.encode("warm-up");
+
+        assertThat(meterRegistry.find("executor.queued").tag("name", "passwordHashingExecutor").gauge()).isNotNull();
+        assertThat(meterRegistry.find("tracker.password.hashing.rejected").counter()).isNotNull();
+    }
+
+    private void createUser(String username, String hash) {
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password(hash)
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    private static MockHttpServletRequestBuilder login(String username, String password, String address) {
+        return post("/login")
+                .param("username", username)
+                .param("password", password)
+                .with(csrf())
+                .with(from(address));
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
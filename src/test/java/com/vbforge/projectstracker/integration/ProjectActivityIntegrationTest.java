@@ -0,0 +1,173 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.repository.OutboxEventRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.ChangeOutbox;
+import com.vbforge.projectstracker.service.ProjectActivityService;
+import com.vbforge.projectstracker.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Project Activity Integration Test
+ * Records project writes through the change outbox and compacts old activity into daily counts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Project Activity Integration Test")
+class ProjectActivityIntegrationTest {
+
+    @Autowired
+    private ProjectActivityService activityService;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = userRepository.save(User.builder()
+                .username("activity")
+                .email("activity@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should record status transitions of relayed project writes")
+    void shouldRecordStatusTransitions() {
+        Project project = projectService.saveProject(Project.builder()
+                .title("Tracked")
+                .status(ProjectStatus.NOT_STARTED)
+                .owner(owner)
+                .createdDate(LocalDateTime.now())
+                .lastWorkedOn(LocalDateTime.now())
+                .build());
+        projectService.updateProject(project.getId(), Project.builder()
+                .title("Tracked")
+                .status(ProjectStatus.DONE)
+                .onGithub(false)
+                .build(), owner);
+        changeOutbox.relay();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT from_status, to_status FROM project_activity WHERE project_id = ? ORDER BY id", project.getId()))
+                .extracting(row -> row.get("FROM_STATUS"), row -> row.get("TO_STATUS"))
+                .containsExactly(
+                        tuple(null, "NOT_STARTED"),
+                        tuple("NOT_STARTED", "DONE"));
+        assertThat(activityService.getDailyActivity(owner, LocalDate.now(), LocalDate.now()))
+                .containsExactlyEntriesOf(Map.of(LocalDate.now(), 2L));
+    }
+
+    @Test
+    @DisplayName("Should fold old activity into daily counts and keep the totals")
+    void shouldCompactOldActivity() {
+        LocalDate oldDay = LocalDate.now().minusDays(100);
+        insertActivity(1L, 41L, oldDay.atTime(9, 0), ProjectStatus.NOT_STARTED, ProjectStatus.IN_PROGRESS);
+        insertActivity(2L, 41L, oldDay.atTime(17, 0), ProjectStatus.IN_PROGRESS, ProjectStatus.DONE);
+        insertActivity(3L, 42L, oldDay.atTime(18, 0), ProjectStatus.DONE, ProjectStatus.DONE);
+        insertActivity(4L, 41L, LocalDateTime.now(), ProjectStatus.DONE, ProjectStatus.DONE);
+
+        Map<LocalDate, Long> before = activityService.getDailyActivity(owner, oldDay, LocalDate.now());
+        assertThat(activityService.compact(LocalDate.now().minusDays(90))).isEqualTo(3);
+
+        assertThat(activityService.getDailyActivity(owner, oldDay, LocalDate.now())).isEqualTo(before);
+        assertThat(before).containsEntry(oldDay, 3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_activity", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT project_id, event_count, status_changes, completions FROM project_activity_daily ORDER BY project_id"))
+                .extracting(row -> List.of(row.get("PROJECT_ID"), row.get("EVENT_COUNT"), row.get("STATUS_CHANGES"), row.get("COMPLETIONS")))
+                .containsExactly(List.of(41L, 2L, 2L, 1L), List.of(42L, 1L, 0L, 0L));
+
+        // A row relayed late for an already compacted day is added to its counts
+        insertActivity(5L, 41L, oldDay.atTime(20, 0), ProjectStatus.DONE, ProjectStatus.IN_PROGRESS);
+        assertThat(activityService.compact(LocalDate.now().minusDays(90))).isEqualTo(1);
+        assertThat(activityService.getDailyActivity(owner, oldDay, oldDay)).containsEntry(oldDay, 4L);
+    }
+
+    @Test
+    @DisplayName("Should not fold a day twice when two instances compact it at once")
+    void shouldCompactDayOnce() throws Exception {
+        LocalDate oldDay = LocalDate.now().minusDays(100);
+        insertActivity(1L, 41L, oldDay.atTime(9, 0), ProjectStatus.NOT_STARTED, ProjectStatus.IN_PROGRESS);
+        insertActivity(2L, 41L, oldDay.atTime(17, 0), ProjectStatus.IN_PROGRESS, ProjectStatus.DONE);
+
+        // The first instance is still inside the day's transaction when the second one starts
+        CompletableFuture<Integer> second = new CompletableFuture<>();
+        Integer first = transactionTemplate.execute(status -> {
+            int folded = activityService.compact(LocalDate.now().minusDays(90));
+            CompletableFuture.runAsync(() -> second.complete(activityService.compact(LocalDate.now().minusDays(90))));
+            sleep(300);
+            return folded;
+        });
+
+        assertThat(first).isEqualTo(2);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isZero();
+        assertThat(activityService.getDailyActivity(owner, oldDay, oldDay)).containsEntry(oldDay, 2L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void insertActivity(long id, long projectId, LocalDateTime at, ProjectStatus from, ProjectStatus to) {
+        jdbcTemplate.update("INSERT INTO project_activity (id, project_id, owner_id, occurred_at, change_type, from_status, to_status) " +
+                        "VALUES (?, ?, ?, ?, 'UPDATED', ?, ?)",
+                id, projectId, owner.getId(), Timestamp.valueOf(at), from.name(), to.name());
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM project_activity");
+        jdbcTemplate.update("DELETE FROM project_activity_daily");
+        outboxEventRepository.deleteAllInBatch();
+        userRepository.findByUsername("activity").ifPresent(userRepository::delete);
+    }
+}
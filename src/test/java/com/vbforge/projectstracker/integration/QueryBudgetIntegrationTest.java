@@ -0,0 +1,110 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.monitoring.QueryBudgetFilter;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Query Budget Integration Test
+ * Runs the main pages against a populated account and fails when an endpoint
+ * issues more SQL statements than its declared @QueryBudget (N+1 regressions).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Query Budget Integration Test")
+class QueryBudgetIntegrationTest {
+
+    private static final int PROJECTS = 30;
+    private static final int TAGS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        transactionTemplate.executeWithoutResult(status -> seed());
+    }
+
+    private void seed() {
+        User owner = userRepository.save(User.builder()
+                .username("budget")
+                .email("budget@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(tagRepository.save(Tag.builder().name("tag-" + i).owner(owner).build()));
+        }
+
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = Project.builder()
+                    .title("Project " + i)
+                    .status(ProjectStatus.values()[i % ProjectStatus.values().length])
+                    .onGithub(i % 2 == 0)
+                    .owner(owner)
+                    .build();
+            project.addTag(tags.get(i % TAGS));
+            project.addTag(tags.get((i + 1) % TAGS));
+            projectRepository.save(project);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/projects", "/statistics", "/statistics/timeline", "/tags", "/export/csv", "/export/html",
+            "/api/v1/projects", "/api/v1/tags"})
+    @DisplayName("Should stay within the declared query budget")
+    void shouldStayWithinQueryBudget(String endpoint) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(endpoint).with(user("budget")))
+                .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+
+        String budget = response.getHeader(QueryBudgetFilter.BUDGET_HEADER);
+        String count = response.getHeader(QueryBudgetFilter.COUNT_HEADER);
+
+        assertThat(budget).as("@QueryBudget declared for %s", endpoint).isNotNull();
+        assertThat(count).isNotNull();
+        assertThat(Integer.parseInt(count))
+                .as("SQL statements issued by %s", endpoint)
+                .isLessThanOrEqualTo(Integer.parseInt(budget));
+    }
+}
@@ -0,0 +1,322 @@
+package com.vbforge.projectstracker.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import com.vbforge.projectstracker.service.StaleProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * REST API Integration Test
+ * CRUD, cursor pagination, bulk operations and conditional GET (ETag / 304) against H2.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("REST API Integration Test")
+class RestApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private StaleProjectService staleProjectService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private Clock clock;
+
+    private User owner;
+    private Tag java;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(clock.instant()).thenAnswer(invocation -> Instant.now());
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(User.builder()
+                .username("api")
+                .email("api@example.com")
+                .password(passwordEncoder.encode("secret"))
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        java = tagRepository.save(Tag.builder().name("java").color("#28a745").owner(owner).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Deleted projects/tags would block the next cleanup's user delete (undo window is 0s in tests)
+        softDeleteService.purgeExpired();
+    }
+
+    @Test
+    @DisplayName("Should create, read, update and delete a project")
+    void shouldCrudProject() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/projects").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"API project\",\"status\":\"IN_PROGRESS\",\"tagIds\":[" + java.getId() + "]}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("$.title").value("API project"))
+                .andExpect(jsonPath("$.tags[0].name").value("java"))
+                .andExpect(jsonPath("$.githubUrlValid").doesNotExist())
+                .andReturn();
+        long id = json(created).get("id").asLong();
+
+        mockMvc.perform(put("/api/v1/projects/{id}", id).with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"status\":\"DONE\",\"tagIds\":[]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.tags").isEmpty());
+
+        mockMvc.perform(delete("/api/v1/projects/{id}", id).with(user("api")))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api")))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    @DisplayName("Should answer unchanged project with 304 and changed one with 200")
+    void shouldAnswerConditionalGet() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/projects").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Cached\",\"status\":\"NOT_STARTED\",\"tagIds\":[" + java.getId() + "]}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = json(created).get("id").asLong();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult notModified = mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+
+        // Renaming an embedded tag changes the project representation
+        mockMvc.perform(put("/api/v1/tags/{id}", java.getId()).with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"java-17\",\"color\":\"#28a745\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags[0].name").value("java-17"));
+    }
+
+    @Test
+    @DisplayName("Should answer 200 after midnight, as the days since last worked changed")
+    void shouldRevalidateOnNextDay() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/projects").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Dated\",\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = json(created).get("id").asLong();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.daysSinceLastWorked").value(0))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        String listEtag = mockMvc.perform(get("/api/v1/projects").with(user("api")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(clock.instant()).thenAnswer(invocation -> Instant.now().plus(Duration.ofDays(1)));
+
+        mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.daysSinceLastWorked").value(1));
+        mockMvc.perform(get("/api/v1/projects/{id}", id).with(user("api"))
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/projects").with(user("api"))
+                        .header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].daysSinceLastWorked").value(1));
+    }
+
+    @Test
+    @DisplayName("Should page the project list with a cursor and revalidate it")
+    void shouldPageWithCursor() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            projectRepository.save(Project.builder().title("Project " + i).owner(owner).build());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/v1/projects").with(user("api"))
+                            .param("limit", "2")
+                            .param("cursor", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode page = json(result);
+            page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(5);
+        assertThat(pages).isEqualTo(3);
+
+        String etag = mockMvc.perform(get("/api/v1/projects").with(user("api")).param("search", "project"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/projects").with(user("api")).param("search", "project")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // Another filter is another representation
+        mockMvc.perform(get("/api/v1/projects").with(user("api")).param("search", "other")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply bulk operations all-or-nothing")
+    void shouldApplyBulkOperations() throws Exception {
+        Project a = projectRepository.save(Project.builder().title("A").owner(owner).build());
+        Project b = projectRepository.save(Project.builder().title("B").owner(owner).build());
+
+        mockMvc.perform(post("/api/v1/projects/bulk").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"SET_STATUS\",\"status\":\"DONE\",\"ids\":[" + a.getId() + "," + b.getId() + ",999999]}"))
+                .andExpect(status().isNotFound());
+        assertThat(projectRepository.findById(a.getId()).orElseThrow().getStatus()).isEqualTo(ProjectStatus.NOT_STARTED);
+
+        mockMvc.perform(post("/api/v1/projects/bulk").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"ADD_TAG\",\"tagId\":" + java.getId() + ",\"ids\":[" + a.getId() + "," + b.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        mockMvc.perform(get("/api/v1/tags").with(user("api")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("java"))
+                .andExpect(jsonPath("$[0].projectCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Should list the stalest active projects found by the last scan")
+    void shouldListStaleProjects() throws Exception {
+        Project cold = projectRepository.save(Project.builder().title("Cold").status(ProjectStatus.NOT_STARTED).owner(owner).build());
+        Project colder = projectRepository.save(Project.builder().title("Colder").status(ProjectStatus.IN_PROGRESS).owner(owner).build());
+        Project done = projectRepository.save(Project.builder().title("Done").status(ProjectStatus.DONE).owner(owner).build());
+        backdate(cold, 30);
+        backdate(colder, 60);
+        backdate(done, 90);
+
+        staleProjectService.scan();
+
+        mockMvc.perform(get("/api/v1/projects/stale").with(user("api")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Colder"))
+                .andExpect(jsonPath("$[0].daysSinceLastWorked").value(60))
+                .andExpect(jsonPath("$[1].title").value("Cold"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input with problem details")
+    void shouldRejectInvalidInput() throws Exception {
+        mockMvc.perform(post("/api/v1/projects").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"x\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.title").exists())
+                .andExpect(jsonPath("$.errors.status").exists());
+
+        mockMvc.perform(post("/api/v1/tags").with(user("api"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"java\",\"color\":\"#000000\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should authenticate API requests with HTTP Basic only")
+    void shouldRequireBasicAuth() throws Exception {
+        mockMvc.perform(get("/api/v1/projects"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/v1/projects").with(httpBasic("api", "secret")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Set-Cookie"));
+    }
+
+    private void backdate(Project project, int days) {
+        jdbcTemplate.update("UPDATE projects SET last_worked_on = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(days), project.getId());
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
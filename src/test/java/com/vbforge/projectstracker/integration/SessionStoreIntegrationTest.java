@@ -0,0 +1,118 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.Role;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Session Store Integration Test
+ * Logins live in Spring Session's JDBC store (H2 here) and survive without the servlet container's memory.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Session Store Integration Test")
+class SessionStoreIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .username("session")
+                .email("session@example.com")
+                .password(passwordEncoder.encode("secret"))
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should keep the login in the JDBC store with a compact security context")
+    void shouldStoreLoginInDatabase() throws Exception {
+        Cookie session = mockMvc.perform(post("/login")
+                        .param("username", "session")
+                        .param("password", "secret")
+                        .with(csrf())
+                        .with(request -> {
+                            request.setRemoteAddr("10.5.0.1");
+                            return request;
+                        }))
+                .andExpect(redirectedUrl("/projects"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertThat(session).isNotNull();
+
+        // A fresh request only carries the cookie; the login comes back from the database
+        mockMvc.perform(get("/projects").cookie(session))
+                .andExpect(status().isOk());
+
+        byte[] context = jdbcTemplate.queryForObject(
+                "SELECT a.ATTRIBUTE_BYTES FROM SPRING_SESSION_ATTRIBUTES a " +
+                        "JOIN SPRING_SESSION s ON s.PRIMARY_ID = a.SESSION_PRIMARY_ID " +
+                        "WHERE s.PRINCIPAL_NAME = ? AND a.ATTRIBUTE_NAME = 'SPRING_SECURITY_CONTEXT'",
+                byte[].class, "session");
+        assertThat(context).isNotNull();
+        assertThat(context.length).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Should remove the session from the store on logout")
+    void shouldDeleteSessionOnLogout() throws Exception {
+        Cookie session = mockMvc.perform(post("/login")
+                        .param("username", "session")
+                        .param("password", "secret")
+                        .with(csrf())
+                        .with(request -> {
+                            request.setRemoteAddr("10.5.0.2");
+                            return request;
+                        }))
+                .andReturn().getResponse().getCookie("SESSION");
+
+        mockMvc.perform(post("/logout").cookie(session).with(csrf()))
+                .andExpect(redirectedUrl("/login?logout=true"));
+
+        mockMvc.perform(get("/projects").cookie(session))
+                .andExpect(status().is3xxRedirection());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM SPRING_SESSION WHERE PRINCIPAL_NAME = ?", Integer.class, "session")).isZero();
+    }
+}
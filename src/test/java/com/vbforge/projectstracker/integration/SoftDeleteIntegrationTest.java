@@ -0,0 +1,206 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.dto.TagUsageDTO;
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.exception.DuplicateResourceException;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.repository.UserRepository;
+import com.vbforge.projectstracker.service.ProjectService;
+import com.vbforge.projectstracker.service.SoftDeleteService;
+import com.vbforge.projectstracker.service.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Soft Delete Integration Test
+ * Deleted projects and tags vanish from every query, can be restored within the undo window,
+ * and are purged with their project_tags links in small chunks afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.soft-delete.undo-window=10m",
+        "app.soft-delete.batch-size=2"
+})
+@DisplayName("Soft Delete Integration Test")
+class SoftDeleteIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private Tag tag;
+    private List<Project> projects;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = userRepository.save(User.builder()
+                .username("softdelete")
+                .email("softdelete@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        tag = tagService.saveTag(Tag.builder().name("shared").color("#28a745").owner(owner).build());
+        projects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            projects.add(projectService.saveProject(Project.builder()
+                    .title("Project " + i)
+                    .status(ProjectStatus.IN_PROGRESS)
+                    .owner(owner)
+                    .build(), List.of(tag.getId())));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should hide a deleted tag everywhere and restore it with its links")
+    void shouldHideAndRestoreTag() {
+        tagService.deleteTag(tag.getId(), owner);
+
+        assertThat(tagService.getAllTags(owner)).isEmpty();
+        assertThat(tagService.getTagUsage(owner, 0)).isEmpty();
+        assertThat(projectService.getProjectByIdAndOwner(projects.get(0).getId(), owner).orElseThrow().getTags()).isEmpty();
+        assertThat(projectService.getProjectsByTag("shared", owner)).isEmpty();
+        // The links are left to the purge
+        assertThat(linkCount()).isEqualTo(5);
+
+        tagService.restoreTag(tag.getId(), owner);
+
+        assertThat(tagService.getTagUsage(owner, 0))
+                .extracting(TagUsageDTO::getProjectCount)
+                .containsExactly(5L);
+        assertThat(projectService.getProjectsByTag("shared", owner)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should hide a deleted project from lists, counts and tag usage")
+    void shouldHideAndRestoreProject() {
+        Long id = projects.get(0).getId();
+        projectService.deleteProject(id, owner);
+
+        assertThat(projectService.getAllProjects(owner)).hasSize(4);
+        assertThat(projectService.getTotalProjectCount(owner)).isEqualTo(4);
+        assertThat(projectService.getProjectByIdAndOwner(id, owner)).isEmpty();
+        assertThat(tagService.getTagUsage(owner, 0))
+                .extracting(TagUsageDTO::getProjectCount)
+                .containsExactly(4L);
+
+        Project restored = projectService.restoreProject(id, owner);
+
+        assertThat(restored.getTags()).extracting(Tag::getName).containsExactly("shared");
+        assertThat(projectService.getTotalProjectCount(owner)).isEqualTo(5);
+
+        projects.forEach(project -> projectService.deleteProject(project.getId(), owner));
+        assertThat(tagService.getUnusedTags(owner)).extracting(Tag::getName).containsExactly("shared");
+    }
+
+    @Test
+    @DisplayName("Should not restore after the undo window")
+    void shouldNotRestoreAfterUndoWindow() {
+        Long id = projects.get(0).getId();
+        projectService.deleteProject(id, owner);
+        backdate("projects", id);
+
+        assertThatThrownBy(() -> projectService.restoreProject(id, owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should purge expired projects and tags with their links in chunks")
+    void shouldPurgeExpiredRows() {
+        Long deletedProject = projects.get(0).getId();
+        projectService.deleteProject(deletedProject, owner);
+        tagService.deleteTag(tag.getId(), owner);
+
+        // Still inside the undo window: nothing to purge
+        assertThat(softDeleteService.purgeExpired()).isZero();
+
+        backdate("projects", deletedProject);
+        backdate("tags", tag.getId());
+        assertThat(softDeleteService.purgeExpired()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects WHERE id = ?", Long.class, deletedProject)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE id = ?", Long.class, tag.getId())).isZero();
+        assertThat(linkCount()).isZero();
+        assertThat(projectService.getAllProjects(owner)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should keep the name of a restorable tag and offer to restore it")
+    void shouldRejectNameOfRestorableTag() {
+        tagService.deleteTag(tag.getId(), owner);
+
+        assertThatThrownBy(() -> tagService.saveTag(Tag.builder().name("shared").owner(owner).build()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("restore");
+
+        assertThat(tagService.restoreTag(tag.getId(), owner).getName()).isEqualTo("shared");
+        assertThat(linkCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should free the name of an expired deleted tag and leave its links to the purge")
+    void shouldReuseNameOfDeletedTag() {
+        tagService.deleteTag(tag.getId(), owner);
+        backdate("tags", tag.getId());
+
+        Tag replacement = tagService.saveTag(Tag.builder().name("shared").owner(owner).build());
+
+        assertThat(replacement.getId()).isNotEqualTo(tag.getId());
+        assertThat(linkCount()).isEqualTo(5);
+        assertThatThrownBy(() -> tagService.restoreTag(tag.getId(), owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(softDeleteService.purgeExpired()).isEqualTo(1);
+        assertThat(linkCount()).isZero();
+        assertThat(tagService.getTagById(replacement.getId(), owner)).isPresent();
+    }
+
+    private long linkCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_tags", Long.class);
+    }
+
+    private void backdate(String table, Long id) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = DATEADD('HOUR', -1, deleted_at) WHERE id = ?", id);
+    }
+
+    private void cleanUp() {
+        userRepository.findByUsername("softdelete").ifPresent(user -> {
+            jdbcTemplate.update("DELETE FROM project_tags WHERE project_id IN (SELECT id FROM projects WHERE user_id = ?)", user.getId());
+            jdbcTemplate.update("DELETE FROM projects WHERE user_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM tags WHERE user_id = ?", user.getId());
+            userRepository.delete(user);
+        });
+    }
+}
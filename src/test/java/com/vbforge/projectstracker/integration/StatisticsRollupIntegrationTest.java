@@ -0,0 +1,221 @@
+package com.vbforge.projectstracker.integration;
+
+import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.repository.*;
+import com.vbforge.projectstracker.service.StatisticsRollupService;
+import com.vbforge.projectstracker.service.StatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statistics Rollup Integration Test
+ * Runs the rollup against H2 and checks incremental processing and that
+ * the rollup-backed statistics match the raw computation.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Statistics Rollup Integration Test")
+class StatisticsRollupIntegrationTest {
+
+    @Autowired
+    private StatisticsRollupService rollupService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Autowired
+    private StatisticsRollupStateRepository rollupStateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private User otherOwner;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = createOwner("rollup");
+        otherOwner = createOwner("other");
+
+        LocalDate today = LocalDate.now();
+        createProject(owner, "Old", ProjectStatus.DONE, today.minusDays(40), today.minusDays(30));
+        createProject(owner, "Recent", ProjectStatus.IN_PROGRESS, today.minusDays(3), today.minusDays(1));
+        createProject(otherOwner, "Other", ProjectStatus.NOT_STARTED, today.minusDays(2), today.minusDays(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should roll up history on the first run")
+    void shouldRollUpHistoryOnFirstRun() {
+        Map<String, Long> rawMonths = statisticsService.getProjectsCreatedByMonth(owner);
+        double rawAverage = statisticsService.getAverageDaysSinceLastWorked(owner);
+
+        int processed = rollupService.rollup();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(rollupService.getRolledUpThrough()).contains(LocalDate.now().minusDays(1));
+
+        List<DailyStatistics> rows = dailyStatisticsRepository.findByOwnerAndStatDateBetween(
+                owner, LocalDate.now().minusDays(60), LocalDate.now());
+        assertThat(rows).extracting(DailyStatistics::getCreatedCount).containsOnly(0L, 1L);
+        assertThat(rows.stream().mapToLong(DailyStatistics::getCreatedCount).sum()).isEqualTo(2L);
+
+        DailyStatistics snapshot = dailyStatisticsRepository
+                .findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(owner).orElseThrow();
+        assertThat(snapshot.getTotalProjects()).isEqualTo(2L);
+        assertThat(snapshot.getDoneCount()).isEqualTo(1L);
+        assertThat(snapshot.getInProgressCount()).isEqualTo(1L);
+        assertThat(snapshot.getTagUsage()).containsEntry("java", 2L);
+
+        // Rollup-backed reads give the same answers as the raw computation
+        assertThat(statisticsService.getProjectsCreatedByMonth(owner)).isEqualTo(rawMonths);
+        assertThat(statisticsService.getAverageDaysSinceLastWorked(owner)).isEqualTo(rawAverage);
+    }
+
+    @Test
+    @DisplayName("Should only process owners with changes on later runs")
+    void shouldProcessOnlyChangedOwners() {
+        rollupService.rollup();
+
+        assertThat(rollupService.rollup()).isZero();
+
+        // Deletions are detected through the snapshot totals
+        transactionTemplate.executeWithoutResult(status ->
+                projectRepository.deleteAll(projectRepository.findAllByOwner(otherOwner)));
+
+        assertThat(rollupService.rollup()).isEqualTo(1);
+        assertThat(dailyStatisticsRepository.findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(otherOwner))
+                .get().extracting(DailyStatistics::getTotalProjects).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should process owners whose projects changed between midnight and the previous run")
+    void shouldProcessChangesBeforePreviousRun() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        createProject(owner, "Early", ProjectStatus.NOT_STARTED, yesterday, yesterday);
+        Timestamp earlyMorning = Timestamp.valueOf(yesterday.atTime(0, 5));
+        jdbcTemplate.update("UPDATE projects SET created_date = ?, last_worked_on = ?, updated_at = ? WHERE title = 'Early'",
+                earlyMorning, earlyMorning, earlyMorning);
+
+        // As if the previous run had started at 00:15 yesterday, closing the day before,
+        // with snapshots taken after "Early" existed
+        rollupStateRepository.save(StatisticsRollupState.builder()
+                .id(StatisticsRollupState.SINGLETON_ID)
+                .rolledUpThrough(yesterday.minusDays(1))
+                .lastRunStartedAt(yesterday.atTime(0, 15))
+                .build());
+        saveSnapshot(owner, yesterday.minusDays(1), 3L);
+        saveSnapshot(otherOwner, yesterday.minusDays(1), 1L);
+
+        assertThat(rollupService.rollup()).isEqualTo(1);
+        assertThat(dailyStatisticsRepository.findByOwnerAndStatDateBetween(owner, yesterday, yesterday))
+                .extracting(DailyStatistics::getCreatedCount)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should recompute the day counts when the same days are rolled up twice")
+    void shouldRollUpSameDaysTwice() {
+        rollupService.rollup();
+        LocalDate since = LocalDate.now().minusDays(60);
+        assertThat(workedCount(owner, since)).isEqualTo(2L);
+
+        // "Recent" was last worked on a day earlier, then the window is rolled up again
+        jdbcTemplate.update("UPDATE projects SET last_worked_on = ? WHERE title = 'Recent'",
+                Timestamp.valueOf(LocalDate.now().minusDays(2).atTime(12, 0)));
+        rollupStateRepository.deleteAll();
+
+        assertThat(rollupService.rollup()).isEqualTo(2);
+        assertThat(workedCount(owner, since)).isEqualTo(2L);
+        assertThat(dailyStatisticsRepository.findByOwnerAndStatDateBetween(owner, since, LocalDate.now()).stream()
+                .mapToLong(DailyStatistics::getCreatedCount).sum()).isEqualTo(2L);
+    }
+
+    private long workedCount(User statsOwner, LocalDate since) {
+        return dailyStatisticsRepository.findByOwnerAndStatDateBetween(statsOwner, since, LocalDate.now()).stream()
+                .mapToLong(DailyStatistics::getWorkedCount)
+                .sum();
+    }
+
+    private void saveSnapshot(User snapshotOwner, LocalDate day, long totalProjects) {
+        dailyStatisticsRepository.save(DailyStatistics.builder()
+                .owner(snapshotOwner)
+                .statDate(day)
+                .totalProjects(totalProjects)
+                .computedAt(day.plusDays(1).atTime(0, 15))
+                .build());
+    }
+
+    private User createOwner(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    private void createProject(User projectOwner, String title, ProjectStatus status,
+                               LocalDate created, LocalDate lastWorked) {
+        Long id = transactionTemplate.execute(tx -> {
+            Tag tag = tagRepository.findByNameAndOwner("java", projectOwner)
+                    .orElseGet(() -> tagRepository.save(Tag.builder().name("java").owner(projectOwner).build()));
+            Project project = Project.builder().title(title).status(status).onGithub(true).owner(projectOwner).build();
+            project.addTag(tag);
+            return projectRepository.save(project).getId();
+        });
+
+        // Timestamps are set by @PrePersist - backdate them directly, including updated_at,
+        // so the projects do not look "changed" to later runs
+        LocalDateTime past = created.atTime(10, 0);
+        jdbcTemplate.update("UPDATE projects SET created_date = ?, last_worked_on = ?, updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(past), Timestamp.valueOf(lastWorked.atTime(12, 0)), Timestamp.valueOf(past), id);
+        jdbcTemplate.update("UPDATE tags SET updated_at = ? WHERE user_id = ?",
+                Timestamp.valueOf(past.minusDays(1)), projectOwner.getId());
+    }
+
+    private void cleanUp() {
+        dailyStatisticsRepository.deleteAll();
+        rollupStateRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM project_tags");
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -0,0 +1,76 @@
+package com.vbforge.projectstracker.monitoring;
+
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.ResourceNotFoundException;
+import com.vbforge.projectstracker.service.TagService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceMetricsAspect Tests")
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private TagService tagService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TagService proxy;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(tagService);
+        factory.addInterface(TagService.class);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+        owner = User.builder().id(1L).username("testuser").build();
+    }
+
+    @Test
+    @DisplayName("Should time successful calls tagged by method and outcome")
+    void shouldTimeSuccessfulCalls() {
+        when(tagService.getAllTags(owner)).thenReturn(List.of());
+
+        proxy.getAllTags(owner);
+        proxy.getAllTags(owner);
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "getAllTags")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should record error outcome and count exceptions")
+    void shouldRecordErrors() {
+        when(tagService.updateTag(99L, null, owner))
+                .thenThrow(new ResourceNotFoundException("Tag", "id", 99L));
+
+        assertThatThrownBy(() -> proxy.updateTag(99L, null, owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "updateTag")
+                .tag("outcome", "error")
+                .timer()).isNotNull();
+        assertThat(meterRegistry.find(ServiceMetricsAspect.ERROR_COUNTER_NAME)
+                .tag("exception", "ResourceNotFoundException")
+                .counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.vbforge.projectstracker.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ThreadingModeReporter Tests")
+class ThreadingModeReporterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should report platform threads when virtual threads are not enabled")
+    void shouldReportPlatformThreads() {
+        new ThreadingModeReporter(new MockEnvironment(), meterRegistry).report();
+
+        assertThat(meterRegistry.get(ThreadingModeReporter.GAUGE_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report virtual threads only when the JVM supports them")
+    void shouldReportVirtualThreadsWhenSupported() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+
+        new ThreadingModeReporter(environment, meterRegistry).report();
+
+        double expected = Runtime.version().feature() >= 21 ? 1 : 0;
+        assertThat(meterRegistry.get(ThreadingModeReporter.GAUGE_NAME).gauge().value()).isEqualTo(expected);
+    }
+}
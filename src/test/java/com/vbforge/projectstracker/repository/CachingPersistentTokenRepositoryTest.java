@@ -0,0 +1,195 @@
+package com.vbforge.projectstracker.repository;
+
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.RememberMeTokenChangedEvent;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+@ActiveProfiles("test")
+@Import(CachingPersistentTokenRepository.class)
+// Single instance: rotations are batched (the default configuration is covered by CacheCoherenceIntegrationTest)
+@TestPropertySource(properties = "app.cache-bus.enabled=false")
+@DisplayName("CachingPersistentTokenRepository Tests")
+class CachingPersistentTokenRepositoryTest {
+
+    @Autowired
+    private CachingPersistentTokenRepository tokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // The repository outlives each test's transaction; start from an empty cache too
+        tokenRepository.removeUserTokens("alice");
+        tokenRepository.removeUserTokens("bob");
+    }
+
+    @Test
+    @DisplayName("Should serve lookups from memory and write rotations on flush")
+    void shouldWriteRotationsOnFlush() {
+        tokenRepository.createNewToken(token("alice", "series-1", "first", new Date()));
+
+        // Gone from the database, still answered from the cache
+        jdbcTemplate.update("UPDATE persistent_logins SET username = 'elsewhere'");
+        assertThat(tokenRepository.getTokenForSeries("series-1").getUsername()).isEqualTo("alice");
+
+        tokenRepository.updateToken("series-1", "second", new Date());
+        assertThat(tokenRepository.getTokenForSeries("series-1").getTokenValue()).isEqualTo("second");
+        assertThat(storedValue("series-1")).isEqualTo("first");
+
+        assertThat(tokenRepository.flush()).isEqualTo(1);
+        assertThat(storedValue("series-1")).isEqualTo("second");
+        assertThat(tokenRepository.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load unknown series from the database once")
+    void shouldLoadFromDatabase() {
+        jdbcTemplate.update("INSERT INTO persistent_logins (username, series, token, last_used) VALUES (?, ?, ?, ?)",
+                "bob", "series-2", "value", new Date());
+
+        assertThat(tokenRepository.getTokenForSeries("series-2").getTokenValue()).isEqualTo("value");
+        assertThat(tokenRepository.getTokenForSeries("missing")).isNull();
+
+        jdbcTemplate.update("DELETE FROM persistent_logins");
+        assertThat(tokenRepository.getTokenForSeries("series-2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop cached and pending tokens when a user's tokens are removed")
+    void shouldRemoveUserTokens() {
+        tokenRepository.createNewToken(token("alice", "series-1", "first", new Date()));
+        tokenRepository.createNewToken(token("bob", "series-2", "first", new Date()));
+        tokenRepository.updateToken("series-1", "second", new Date());
+
+        tokenRepository.removeUserTokens("alice");
+
+        assertThat(tokenRepository.getTokenForSeries("series-1")).isNull();
+        assertThat(tokenRepository.getTokenForSeries("series-2")).isNotNull();
+        assertThat(tokenRepository.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete expired tokens in chunks")
+    void shouldRemoveExpiredTokensInChunks() {
+        Date old = Date.from(Instant.now().minus(40, ChronoUnit.DAYS));
+        for (int i = 0; i < 5; i++) {
+            tokenRepository.createNewToken(token("alice", "old-" + i, "value", old));
+        }
+        tokenRepository.createNewToken(token("alice", "fresh", "value", new Date()));
+        // Used recently, but only the cache knows so far
+        tokenRepository.updateToken("old-0", "rotated", new Date());
+
+        int deleted = tokenRepository.removeExpiredTokens(Date.from(Instant.now().minus(30, ChronoUnit.DAYS)), 2);
+
+        assertThat(deleted).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForList("SELECT series FROM persistent_logins", String.class))
+                .containsExactlyInAnyOrder("old-0", "fresh");
+        assertThat(tokenRepository.getTokenForSeries("old-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep cookie theft detection working with cached rotations")
+    void shouldDetectCookieTheft() {
+        UserDetails alice = User.withUsername("alice").password("secret").roles("USER").build();
+        PersistentTokenBasedRememberMeServices services =
+                new PersistentTokenBasedRememberMeServices("key", username -> alice, tokenRepository);
+        services.setAlwaysRemember(true);
+
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        Authentication login = UsernamePasswordAuthenticationToken.authenticated(alice, null, alice.getAuthorities());
+        services.loginSuccess(new MockHttpServletRequest(), loginResponse, login);
+        Cookie original = loginResponse.getCookie("remember-me");
+
+        // Legitimate use rotates the token
+        assertThat(services.autoLogin(requestWith(original), new MockHttpServletResponse())).isNotNull();
+
+        // Replaying the old cookie is theft: every token of the user is removed
+        assertThatThrownBy(() -> services.autoLogin(requestWith(original), new MockHttpServletResponse()))
+                .isInstanceOf(CookieTheftException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM persistent_logins", Integer.class)).isZero();
+        assertThat(tokenRepository.cachedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write rotations through and drop tokens changed on other instances")
+    void shouldStayCoherentWithMultipleInstances() {
+        List<Object> published = new ArrayList<>();
+        CachingPersistentTokenRepository nodeA = new CachingPersistentTokenRepository(jdbcTemplate, published::add, 10000, true, true);
+        CachingPersistentTokenRepository nodeB = new CachingPersistentTokenRepository(jdbcTemplate, event -> { }, 10000, true, true);
+        nodeA.createNewToken(token("alice", "series-1", "first", new Date()));
+        assertThat(nodeB.getTokenForSeries("series-1").getTokenValue()).isEqualTo("first");
+        assertThat(nodeB.cachedCount()).isEqualTo(1);
+
+        // A rotation on one node is in the database at once and evicted on the other node
+        nodeA.updateToken("series-1", "second", new Date());
+        assertThat(storedValue("series-1")).isEqualTo("second");
+        assertThat(nodeA.getTokenForSeries("series-1").getTokenValue()).isEqualTo("second");
+        assertThat(nodeA.flush()).isZero();
+        assertThat(published).containsExactly(RememberMeTokenChangedEvent.rotated("series-1"));
+
+        nodeB.onCacheInvalidated(new CacheInvalidatedEvent(null, CacheRegion.TOKEN_SERIES, null, "series-1"));
+        assertThat(nodeB.getTokenForSeries("series-1").getTokenValue()).isEqualTo("second");
+
+        // Logout on one node
+        nodeA.removeUserTokens("alice");
+        nodeB.onCacheInvalidated(new CacheInvalidatedEvent(null, CacheRegion.TOKEN_USER, null, "alice"));
+        assertThat(nodeB.getTokenForSeries("series-1")).isNull();
+        assertThat(published).endsWith(RememberMeTokenChangedEvent.removed("alice"));
+    }
+
+    @Test
+    @DisplayName("Should read and write the database directly when the cache is disabled")
+    void shouldWriteThroughWhenCacheDisabled() {
+        CachingPersistentTokenRepository uncached = new CachingPersistentTokenRepository(jdbcTemplate, event -> { }, 10000, false, false);
+        uncached.createNewToken(token("alice", "series-1", "first", new Date()));
+        uncached.updateToken("series-1", "second", new Date());
+
+        assertThat(storedValue("series-1")).isEqualTo("second");
+        assertThat(uncached.getTokenForSeries("series-1").getTokenValue()).isEqualTo("second");
+        assertThat(uncached.cachedCount()).isZero();
+    }
+
+    private static MockHttpServletRequest requestWith(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(cookie.getName(), cookie.getValue()));
+        return request;
+    }
+
+    private String storedValue(String series) {
+        return jdbcTemplate.queryForObject("SELECT token FROM persistent_logins WHERE series = ?", String.class, series);
+    }
+
+    private static PersistentRememberMeToken token(String username, String series, String value, Date lastUsed) {
+        return new PersistentRememberMeToken(username, series, value, lastUsed);
+    }
+}
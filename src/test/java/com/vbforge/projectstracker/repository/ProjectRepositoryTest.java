@@ -1,5 +1,7 @@
 package com.vbforge.projectstracker.repository;
 
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineField;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.Tag;
@@ -10,11 +12,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +38,9 @@ class ProjectRepositoryTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User user1;
     private User user2;
     private Project project1;
@@ -332,4 +340,38 @@ class ProjectRepositoryTest {
         assertThat(user2Projects).extracting(Project::getTitle)
                 .containsExactly("User2 Project");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should count projects per time bucket with GROUP BY")
+    void shouldCountProjectsPerBucket() {
+        // Given - created dates are set by @PrePersist, move them into known buckets
+        backdate(project1, LocalDateTime.of(2025, 1, 15, 10, 0));   // 2025-Q1, week of Mon 2025-01-13
+        backdate(project2, LocalDateTime.of(2025, 2, 3, 23, 30));   // 2025-Q1, week of Mon 2025-02-03
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        // When
+        Map<LocalDate, Long> months = projectRepository.countPerBucket(user1, TimelineField.CREATED, TimeBucket.MONTH, from, to);
+        Map<LocalDate, Long> quarters = projectRepository.countPerBucket(user1, TimelineField.CREATED, TimeBucket.QUARTER, from, to);
+        Map<LocalDate, Long> weeks = projectRepository.countPerBucket(user1, TimelineField.CREATED, TimeBucket.WEEK, from, to);
+
+        // Then
+        assertThat(months).containsExactly(
+                Map.entry(LocalDate.of(2025, 1, 1), 1L),
+                Map.entry(LocalDate.of(2025, 2, 1), 1L));
+        assertThat(quarters).containsExactly(Map.entry(LocalDate.of(2025, 1, 1), 2L));
+        assertThat(weeks).containsExactly(
+                Map.entry(LocalDate.of(2025, 1, 13), 1L),
+                Map.entry(LocalDate.of(2025, 2, 3), 1L));
+    }
+
+    private void backdate(Project project, LocalDateTime createdDate) {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Project p SET p.createdDate = :created WHERE p.id = :id")
+                .setParameter("created", createdDate)
+                .setParameter("id", project.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
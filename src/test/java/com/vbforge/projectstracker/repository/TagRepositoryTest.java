@@ -1,5 +1,6 @@
 package com.vbforge.projectstracker.repository;
 
+import com.vbforge.projectstracker.dto.TagUsageDTO;
 import com.vbforge.projectstracker.entity.Project;
 import com.vbforge.projectstracker.entity.ProjectStatus;
 import com.vbforge.projectstracker.entity.Role;
@@ -10,12 +11,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -226,6 +230,42 @@ class TagRepositoryTest {
         assertThat(tags.get(2).getName()).isEqualTo("Docker");      // 0 projects
     }
 
+    @Test
+    @DisplayName("Should rank tag usage in SQL with limit")
+    void shouldFindTagUsageByOwner() {
+        // Given
+        Project p1 = Project.builder()
+                .title("Project 1")
+                .status(ProjectStatus.IN_PROGRESS)
+                .owner(user1)
+                .build();
+        p1.addTag(tag1);
+        p1.addTag(tag2);
+        projectRepository.save(p1);
+
+        Project p2 = Project.builder()
+                .title("Project 2")
+                .status(ProjectStatus.DONE)
+                .owner(user1)
+                .build();
+        p2.addTag(tag1);
+        projectRepository.save(p2);
+
+        // When
+        List<TagUsageDTO> top2 = tagRepository.findTagUsageByOwner(user1, PageRequest.of(0, 2));
+        List<TagUsageDTO> all = tagRepository.findTagUsageByOwner(user1, Pageable.unpaged());
+
+        // Then
+        assertThat(top2).extracting(TagUsageDTO::getName, TagUsageDTO::getProjectCount)
+                .containsExactly(
+                        tuple("Spring Boot", 2L),
+                        tuple("React", 1L));
+        assertThat(top2.get(0).getColor()).isEqualTo("#28a745");
+        assertThat(all).hasSize(3);
+        assertThat(all.get(2).getName()).isEqualTo("Docker");
+        assertThat(all.get(2).getProjectCount()).isZero();
+    }
+
     @Test
     @DisplayName("Should find tags with at least one project")
     void shouldFindTagsWithProjectsByOwner() {
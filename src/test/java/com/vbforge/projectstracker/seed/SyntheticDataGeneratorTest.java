@@ -0,0 +1,81 @@
+package com.vbforge.projectstracker.seed;
+
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.TagRepository;
+import com.vbforge.projectstracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("SyntheticDataGenerator Tests")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM project_tags");
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should generate users, projects, tags and links that the application can read")
+    void shouldGenerateDataset() {
+        SyntheticDataGenerator.Result result = generator.generate(spec());
+
+        assertThat(result.users()).isEqualTo(3);
+        assertThat(projectRepository.count()).isEqualTo(result.projects());
+        assertThat(tagRepository.count()).isEqualTo(result.tags());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_tags", Long.class))
+                .isEqualTo(result.tagLinks());
+
+        User user = userRepository.findByUsername("seeded1").orElseThrow();
+        assertThat(passwordEncoder.matches("secret", user.getPassword())).isTrue();
+        assertThat(projectRepository.findAllByOwner(user)).isNotEmpty()
+                .allSatisfy(project -> assertThat(project.getLastWorkedOn()).isAfterOrEqualTo(project.getCreatedDate()));
+    }
+
+    @Test
+    @DisplayName("Should skip users that already exist on a second run")
+    void shouldSkipExistingUsers() {
+        generator.generate(spec());
+        long projects = projectRepository.count();
+
+        SyntheticDataGenerator.Result second = generator.generate(spec());
+
+        assertThat(second.users()).isZero();
+        assertThat(projectRepository.count()).isEqualTo(projects);
+    }
+
+    private SyntheticDataGenerator.Spec spec() {
+        return new SyntheticDataGenerator.Spec(3, "seeded", "secret", 10, 50, 7L);
+    }
+}
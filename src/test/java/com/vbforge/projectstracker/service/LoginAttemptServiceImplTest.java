@@ -0,0 +1,62 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.service.impl.LoginAttemptServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoginAttemptService Tests")
+class LoginAttemptServiceImplTest {
+
+    private final LoginAttemptServiceImpl service = new LoginAttemptServiceImpl(3, 5, Duration.ofMinutes(15), 1000);
+
+    @Test
+    @DisplayName("Should block a username after too many failures, from any address")
+    void shouldBlockUsername() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.isBlocked("alice", "10.0.0." + i)).isFalse();
+            service.loginFailed("alice", "10.0.0." + i);
+        }
+
+        assertThat(service.isBlocked("alice", "10.0.0.99")).isTrue();
+        assertThat(service.isBlocked("ALICE", "10.0.0.99")).isTrue();
+        assertThat(service.isBlocked("bob", "10.0.0.99")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should block an address trying many usernames")
+    void shouldBlockAddress() {
+        for (int i = 0; i < 5; i++) {
+            service.loginFailed("user" + i, "10.0.0.1");
+        }
+
+        assertThat(service.isBlocked("someone-else", "10.0.0.1")).isTrue();
+        assertThat(service.isBlocked("someone-else", "10.0.0.2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should clear the username's failures on success")
+    void shouldResetOnSuccess() {
+        service.loginFailed("alice", "10.0.0.1");
+        service.loginFailed("alice", "10.0.0.1");
+        service.loginSucceeded("alice");
+        service.loginFailed("alice", "10.0.0.1");
+
+        assertThat(service.isBlocked("alice", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should unblock once the window has passed")
+    void shouldUnblockAfterWindow() throws InterruptedException {
+        LoginAttemptServiceImpl shortWindow = new LoginAttemptServiceImpl(1, 5, Duration.ofMillis(50), 1000);
+        shortWindow.loginFailed("alice", "10.0.0.1");
+        assertThat(shortWindow.isBlocked("alice", "10.0.0.1")).isTrue();
+
+        Thread.sleep(80);
+
+        assertThat(shortWindow.isBlocked("alice", "10.0.0.1")).isFalse();
+    }
+}
@@ -0,0 +1,176 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.ProjectFragments;
+import com.vbforge.projectstracker.entity.Project;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.Tag;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.CacheInvalidatedEvent;
+import com.vbforge.projectstracker.event.CacheRegion;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.event.ProjectSnapshot;
+import com.vbforge.projectstracker.event.TagChangedEvent;
+import com.vbforge.projectstracker.service.impl.ProjectFragmentCacheImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProjectFragmentCache Tests")
+class ProjectFragmentCacheImplTest {
+
+    private ProjectFragmentCacheImpl cache;
+    private User owner;
+    private Tag tag;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        cache = new ProjectFragmentCacheImpl(engine, 2, 500);
+
+        owner = User.builder().id(1L).username("testuser").build();
+        tag = Tag.builder().id(7L).name("Spring Boot").color("#28a745").owner(owner).build();
+        project = Project.builder()
+                .id(3L)
+                .title("Tracker <beta>")
+                .description("Keeps track")
+                .status(ProjectStatus.IN_PROGRESS)
+                .onGithub(true)
+                .owner(owner)
+                .createdDate(LocalDateTime.of(2025, 1, 15, 10, 0))
+                .lastWorkedOn(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .build();
+        project.addTag(tag);
+    }
+
+    @Test
+    @DisplayName("Should render card and row without request-specific content")
+    void shouldRenderCardAndRow() {
+        ProjectFragments fragments = render();
+
+        assertThat(fragments.card())
+                .contains("data-project-id=\"3\"")
+                .contains("Tracker &lt;beta&gt;")
+                .contains("Spring Boot")
+                .contains("badge-in-progress")
+                .contains("Jan 15, 2025")
+                .contains("data-delete-url=\"/projects/3/delete\"")
+                .doesNotContain("_csrf");
+        assertThat(fragments.row())
+                .startsWith("<tr")
+                .contains("dot-progress")
+                .doesNotContain("_csrf");
+    }
+
+    @Test
+    @DisplayName("Should reuse the rendered fragments while the project is unchanged")
+    void shouldReuseUnchangedProject() {
+        ProjectFragments first = render();
+        ProjectFragments second = render();
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should render again when the project or one of its tags changed")
+    void shouldRenderAgainWhenChanged() {
+        ProjectFragments first = render();
+
+        project.setTitle("Renamed");
+        project.setUpdatedAt(project.getUpdatedAt().plusMinutes(1));
+        ProjectFragments afterUpdate = render();
+        assertThat(afterUpdate).isNotSameAs(first);
+        assertThat(afterUpdate.card()).contains("Renamed");
+
+        // A tag rename does not touch the project's updatedAt
+        tag.setName("Spring");
+        assertThat(render().card()).contains(">Spring<");
+    }
+
+    @Test
+    @DisplayName("Should evict entries on project and tag events")
+    void shouldEvictOnEvents() {
+        render();
+        cache.onProjectChanged(ProjectChangedEvent.of(ChangeType.DELETED, project, ProjectSnapshot.of(project), null));
+        assertThat(cache.size()).isZero();
+
+        render();
+        cache.onTagChanged(TagChangedEvent.of(ChangeType.UPDATED, tag, "Old name"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict entries on invalidations from other nodes")
+    void shouldEvictOnRemoteInvalidation() {
+        render();
+        cache.onCacheInvalidated(new CacheInvalidatedEvent(owner.getId(), CacheRegion.PROJECT, 99L));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.onCacheInvalidated(new CacheInvalidatedEvent(owner.getId(), CacheRegion.PROJECT, project.getId()));
+        assertThat(cache.size()).isZero();
+
+        render();
+        cache.onCacheInvalidated(new CacheInvalidatedEvent(owner.getId(), CacheRegion.TAG, tag.getId()));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should prefix links with the context path and cache per context path")
+    void shouldRenderLinksUnderContextPath() {
+        ProjectFragments root = render();
+        ProjectFragments underApp = cache.getFragments(List.of(project), Locale.ENGLISH, "/tracker").get(0);
+
+        assertThat(underApp).isNotSameAs(root);
+        assertThat(underApp.card())
+                .contains("href=\"/tracker/projects/3\"")
+                .contains("data-delete-url=\"/tracker/projects/3/delete\"");
+        assertThat(underApp.row()).contains("href=\"/tracker/projects/3/edit\"");
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used owner beyond max-users")
+    void shouldEvictLeastRecentlyUsedOwner() {
+        ProjectFragments first = render();
+        cache.getFragments(List.of(projectOf(2L)), Locale.ENGLISH, "");
+        // Owner 1 was used again, owner 2 is now the least recent
+        assertThat(render()).isSameAs(first);
+
+        cache.getFragments(List.of(projectOf(3L)), Locale.ENGLISH, "");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(render()).isSameAs(first);
+    }
+
+    private Project projectOf(Long ownerId) {
+        return Project.builder()
+                .id(100 + ownerId)
+                .title("Project of " + ownerId)
+                .status(ProjectStatus.NOT_STARTED)
+                .owner(User.builder().id(ownerId).username("user" + ownerId).build())
+                .createdDate(LocalDateTime.of(2025, 1, 15, 10, 0))
+                .lastWorkedOn(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .build();
+    }
+
+    private ProjectFragments render() {
+        return cache.getFragments(List.of(project), Locale.ENGLISH, "").get(0);
+    }
+}
@@ -1,6 +1,10 @@
 package com.vbforge.projectstracker.service;
 
+import com.vbforge.projectstracker.dto.BulkProjectRequestDTO;
 import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.EntityType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
 import com.vbforge.projectstracker.repository.ProjectRepository;
 import com.vbforge.projectstracker.repository.TagRepository;
@@ -9,15 +13,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,18 @@ class ProjectServiceImplTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private SoftDeleteService softDeleteService;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -110,11 +133,136 @@ class ProjectServiceImplTest {
     @Test
     @DisplayName("Should delete project successfully")
     void shouldDeleteProjectSuccessfully() {
+        when(projectRepository.findDeleteColumns(1L, owner))
+                .thenReturn(List.<Object[]>of(new Object[]{"Test Project", ProjectStatus.IN_PROGRESS, false}));
+        when(projectRepository.softDelete(eq(List.of(1L)), eq(owner), any())).thenReturn(1);
+
+        projectService.deleteProject(1L, owner);
+
+        // Soft delete: the entity is never loaded or removed
+        verify(projectRepository, never()).findByIdAndOwner(any(), any());
+        verify(projectRepository, never()).delete(any());
+        verify(changeOutbox).append(EntityType.PROJECT, 1L, 1L, ChangeType.DELETED, Set.of(),
+                ProjectStatus.IN_PROGRESS, null);
+        verify(dataVersionService).bump(owner);
+    }
+
+    @Test
+    @DisplayName("Should throw when the project to delete does not exist")
+    void shouldThrowWhenDeletingMissingProject() {
+        when(projectRepository.findDeleteColumns(999L, owner)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> projectService.deleteProject(999L, owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(projectRepository, never()).softDelete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should restore a deleted project within the undo window")
+    void shouldRestoreProject() {
+        when(softDeleteService.restorableSince()).thenReturn(LocalDateTime.now().minusMinutes(10));
+        when(projectRepository.restore(eq(1L), eq(1L), any(), any())).thenReturn(1);
         when(projectRepository.findByIdAndOwner(1L, owner)).thenReturn(Optional.of(project1));
 
+        assertThat(projectService.restoreProject(1L, owner)).isSameAs(project1);
+
+        ArgumentCaptor<ProjectChangedEvent> captor = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(ChangeType.CREATED);
+        assertThat(captor.getValue().countsDelta()).containsEntry("totalProjects", 1L);
+        verify(dataVersionService).bump(owner);
+    }
+
+    @Test
+    @DisplayName("Should not restore a project outside the undo window")
+    void shouldNotRestoreExpiredProject() {
+        when(projectRepository.restore(eq(1L), eq(1L), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> projectService.restoreProject(1L, owner))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(eventPublisher, dataVersionService);
+    }
+
+    @Test
+    @DisplayName("Should bump the owner's data version once per bulk operation")
+    void shouldBumpDataVersionOncePerBulkOperation() {
+        Project project2 = Project.builder().id(2L).title("Second").status(ProjectStatus.NOT_STARTED).owner(owner).build();
+        when(projectRepository.findAllByIdInAndOwner(any(), eq(owner))).thenReturn(List.of(project1, project2));
+        when(projectRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkProjectRequestDTO request = BulkProjectRequestDTO.builder()
+                .action(BulkProjectRequestDTO.Action.SET_STATUS)
+                .ids(List.of(1L, 2L))
+                .status(ProjectStatus.DONE)
+                .build();
+        int affected = projectService.applyBulkOperation(request, owner);
+
+        assertThat(affected).isEqualTo(2);
+        verify(eventPublisher, times(2)).publishEvent(any(ProjectChangedEvent.class));
+        verify(dataVersionService, times(1)).bump(owner);
+    }
+
+    @Test
+    @DisplayName("Should publish count deltas when project status changes")
+    void shouldPublishCountDeltasOnStatusChange() {
+        Project updatedData = Project.builder()
+                .title("Test Project")
+                .status(ProjectStatus.DONE)
+                .onGithub(false)
+                .build();
+        when(projectRepository.findByIdAndOwner(1L, owner)).thenReturn(Optional.of(project1));
+        when(projectRepository.save(any())).thenReturn(project1);
+
+        projectService.updateProject(1L, updatedData, owner);
+
+        ArgumentCaptor<ProjectChangedEvent> captor = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        ProjectChangedEvent event = captor.getValue();
+        assertThat(event.type()).isEqualTo(ChangeType.UPDATED);
+        assertThat(event.ownerId()).isEqualTo(1L);
+        assertThat(event.countsDelta())
+                .containsExactlyInAnyOrderEntriesOf(Map.of("inProgressProjects", -1L, "completedProjects", 1L));
+        assertThat(event.tagDelta()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should record the changed fields and status transition in the change outbox")
+    @SuppressWarnings("unchecked")
+    void shouldRecordChangedFieldsInOutbox() {
+        Project updatedData = Project.builder()
+                .title("Test Project")
+                .status(ProjectStatus.DONE)
+                .onGithub(false)
+                .build();
+        when(projectRepository.findByIdAndOwner(1L, owner)).thenReturn(Optional.of(project1));
+        when(projectRepository.save(any())).thenReturn(project1);
+
+        projectService.updateProject(1L, updatedData, owner);
+
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(changeOutbox).append(eq(EntityType.PROJECT), eq(1L), eq(1L), eq(ChangeType.UPDATED), captor.capture(),
+                eq(ProjectStatus.IN_PROGRESS), eq(ProjectStatus.DONE));
+        // lastWorkedOn is set on every edit
+        assertThat(captor.getValue()).containsExactly("status", "lastWorkedOn");
+    }
+
+    @Test
+    @DisplayName("Should publish negative deltas when project is deleted")
+    void shouldPublishDeltasOnDelete() {
+        when(projectRepository.findDeleteColumns(1L, owner))
+                .thenReturn(List.<Object[]>of(new Object[]{"Test Project", ProjectStatus.IN_PROGRESS, true}));
+        when(projectRepository.findTagNames(1L)).thenReturn(List.of("Spring Boot"));
+        when(projectRepository.softDelete(eq(List.of(1L)), eq(owner), any())).thenReturn(1);
+
         projectService.deleteProject(1L, owner);
 
-        verify(projectRepository).delete(project1);
+        ArgumentCaptor<ProjectChangedEvent> captor = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        ProjectChangedEvent event = captor.getValue();
+        assertThat(event.type()).isEqualTo(ChangeType.DELETED);
+        assertThat(event.countsDelta()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "totalProjects", -1L, "inProgressProjects", -1L, "githubProjects", -1L));
+        assertThat(event.tagDelta()).containsExactlyEntriesOf(Map.of("Spring Boot", -1L));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.dto.StaleProjectDTO;
+import com.vbforge.projectstracker.entity.ProjectStatus;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.event.ChangeType;
+import com.vbforge.projectstracker.event.ProjectChangedEvent;
+import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.service.impl.StaleProjectServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaleProjectService Tests")
+class StaleProjectServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private StaleProjectServiceImpl service;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        // Queues of 2, pages of 3 rows
+        service = new StaleProjectServiceImpl(projectRepository, 2, 3);
+        alice = User.builder().id(1L).username("alice").build();
+        bob = User.builder().id(2L).username("bob").build();
+    }
+
+    @Test
+    @DisplayName("Should keep the stalest projects of each owner across pages")
+    void shouldKeepStalestPerOwner() {
+        when(projectRepository.findLastWorkedPage(any(), any(), eq(0L), any())).thenReturn(List.of(
+                row(10L, alice, 40), row(20L, bob, 30), row(11L, alice, 20)));
+        when(projectRepository.findLastWorkedPage(any(), eq(NOW.minusDays(20)), eq(11L), any())).thenReturn(List.of(
+                row(12L, alice, 10), row(21L, bob, 5)));
+
+        assertThat(service.scan()).isEqualTo(5);
+
+        assertThat(service.getStaleProjects(alice)).extracting(StaleProjectDTO::getId).containsExactly(10L, 11L);
+        assertThat(service.getStaleProjects(alice).get(0).getDaysSinceLastWorked()).isEqualTo(40);
+        assertThat(service.getStaleProjects(bob)).extracting(StaleProjectDTO::getId).containsExactly(20L, 21L);
+    }
+
+    @Test
+    @DisplayName("Should drop written projects, including writes during a scan")
+    void shouldDropWrittenProjects() {
+        when(projectRepository.findLastWorkedPage(any(), any(), eq(0L), any())).thenAnswer(invocation -> {
+            // Written after the scan read it
+            service.onProjectChanged(updated(alice, 11L));
+            return List.of(row(10L, alice, 40), row(11L, alice, 20));
+        });
+        service.scan();
+        assertThat(service.getStaleProjects(alice)).extracting(StaleProjectDTO::getId).containsExactly(10L);
+
+        service.onProjectChanged(updated(alice, 10L));
+        assertThat(service.getStaleProjects(alice)).isEmpty();
+    }
+
+    private static Object[] row(Long id, User owner, int daysAgo) {
+        return new Object[]{id, owner.getId(), "Project " + id, ProjectStatus.IN_PROGRESS, NOW.minusDays(daysAgo)};
+    }
+
+    private static ProjectChangedEvent updated(User owner, Long projectId) {
+        return new ProjectChangedEvent(owner.getId(), ChangeType.UPDATED, projectId, "Project " + projectId,
+                ProjectStatus.IN_PROGRESS, false, Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,130 @@
+package com.vbforge.projectstracker.service;
+
+import com.vbforge.projectstracker.config.ContextPropagatingTaskDecorator;
+import com.vbforge.projectstracker.dto.StatisticsDashboardDTO;
+import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.service.impl.StatisticsDashboardServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StatisticsDashboardService Tests")
+class StatisticsDashboardServiceImplTest {
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    private ThreadPoolTaskExecutor executor;
+    private StatisticsDashboardServiceImpl dashboardService;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+
+        dashboardService = new StatisticsDashboardServiceImpl(statisticsService, executor, Duration.ofMillis(300));
+        owner = User.builder().id(1L).username("testuser").build();
+
+        when(statisticsService.getTotalProjects(owner)).thenReturn(10L);
+        when(statisticsService.getCompletionRate(owner)).thenReturn(50.0);
+        when(statisticsService.getAverageDaysSinceLastWorked(owner)).thenReturn(5.5);
+        when(statisticsService.getProjectsByStatus(owner)).thenReturn(Map.of("DONE", 5L));
+        when(statisticsService.getGitHubVsLocal(owner)).thenReturn(Map.of("github", 6L, "local", 4L));
+        when(statisticsService.getProjectsCreatedByMonth(owner)).thenReturn(Map.of("2026-01", 3L));
+        when(statisticsService.getTopTags(10, owner)).thenReturn(Map.of("java", 7L));
+        when(statisticsService.getProjectActivityData(owner, 12)).thenReturn(new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should load all sections")
+    void shouldLoadAllSections() {
+        StatisticsDashboardDTO dashboard = dashboardService.loadDashboard(owner);
+
+        assertThat(dashboard.isComplete()).isTrue();
+        assertThat(dashboard.getTotalProjects()).isEqualTo(10L);
+        assertThat(dashboard.getCompletionRate()).isEqualTo(50.0);
+        assertThat(dashboard.getAvgDaysSinceWorked()).isEqualTo(5.5);
+        assertThat(dashboard.getStatusData()).containsEntry("DONE", 5L);
+        assertThat(dashboard.getGithubData()).containsEntry("github", 6L);
+        assertThat(dashboard.getTimelineData()).containsEntry("2026-01", 3L);
+        assertThat(dashboard.getTopTags()).containsEntry("java", 7L);
+    }
+
+    @Test
+    @DisplayName("Should degrade a slow section without delaying the others")
+    void shouldDegradeSlowSection() {
+        when(statisticsService.getTopTags(10, owner)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return Map.of("java", 7L);
+        });
+
+        long start = System.nanoTime();
+        StatisticsDashboardDTO dashboard = dashboardService.loadDashboard(owner);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(dashboard.getFailedSections()).containsExactly(StatisticsDashboardDTO.TAGS);
+        assertThat(dashboard.getTopTags()).isEmpty();
+        assertThat(dashboard.getTotalProjects()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should degrade a failing section with empty defaults")
+    void shouldDegradeFailingSection() {
+        when(statisticsService.getProjectsByStatus(owner)).thenThrow(new RuntimeException("Database error"));
+
+        StatisticsDashboardDTO dashboard = dashboardService.loadDashboard(owner);
+
+        assertThat(dashboard.getFailedSections()).containsExactly(StatisticsDashboardDTO.STATUS);
+        assertThat(dashboard.getStatusData())
+                .containsEntry("NOT_STARTED", 0L)
+                .containsEntry("IN_PROGRESS", 0L)
+                .containsEntry("DONE", 0L);
+        assertThat(dashboard.getGithubData()).containsEntry("github", 6L);
+    }
+
+    @Test
+    @DisplayName("Should run sections with the caller's security context")
+    void shouldPropagateSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("testuser", null));
+        AtomicReference<String> seenUser = new AtomicReference<>();
+        AtomicReference<String> seenThread = new AtomicReference<>();
+        when(statisticsService.getTotalProjects(owner)).thenAnswer(invocation -> {
+            seenUser.set(SecurityContextHolder.getContext().getAuthentication().getName());
+            seenThread.set(Thread.currentThread().getName());
+            return 10L;
+        });
+
+        dashboardService.loadDashboard(owner);
+
+        assertThat(seenUser.get()).isEqualTo("testuser");
+        assertThat(seenThread.get()).isNotEqualTo(Thread.currentThread().getName());
+    }
+}
@@ -1,8 +1,16 @@
 package com.vbforge.projectstracker.service;
 
+import com.vbforge.projectstracker.dto.ProjectDTO;
+import com.vbforge.projectstracker.dto.TagUsageDTO;
+import com.vbforge.projectstracker.dto.TimeBucket;
+import com.vbforge.projectstracker.dto.TimelineDTO;
+import com.vbforge.projectstracker.dto.TimelineField;
 import com.vbforge.projectstracker.entity.*;
+import com.vbforge.projectstracker.exception.InvalidOperationException;
 import com.vbforge.projectstracker.mapper.ProjectMapper;
+import com.vbforge.projectstracker.repository.DailyStatisticsRepository;
 import com.vbforge.projectstracker.repository.ProjectRepository;
+import com.vbforge.projectstracker.repository.StatisticsRollupStateRepository;
 import com.vbforge.projectstracker.service.impl.StatisticsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,6 +39,15 @@ class StatisticsServiceImplTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StatisticsRollupStateRepository rollupStateRepository;
+
+    @Mock
+    private TagService tagService;
+
     @InjectMocks
     private StatisticsServiceImpl statisticsService;
 
@@ -100,11 +120,27 @@ class StatisticsServiceImplTest {
     @Test
     @DisplayName("Should get top tags")
     void shouldGetTopTags() {
-        when(projectRepository.findAllByOwner(owner)).thenReturn(List.of(project1));
+        when(tagService.getTagUsage(owner, 10)).thenReturn(List.of(
+                new TagUsageDTO(1L, "Spring Boot", "#28a745", 1L),
+                new TagUsageDTO(2L, "Unused", "#6c757d", 0L)));
 
         Map<String, Long> result = statisticsService.getTopTags(10, owner);
 
         assertThat(result).containsEntry("Spring Boot", 1L);
+        assertThat(result).doesNotContainKey("Unused");
+        verify(projectRepository, never()).findAllByOwner(owner);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recently worked projects for activity")
+    void shouldGetLimitedActivityData() {
+        when(projectRepository.findByOwnerOrderByLastWorkedOnDescIdDesc(owner, PageRequest.of(0, 1))).thenReturn(List.of(project1));
+        when(projectMapper.toDTO(eq(project1), any(LocalDate.class))).thenReturn(ProjectDTO.builder().id(1L).daysSinceLastWorked(5L).build());
+
+        List<ProjectDTO> result = statisticsService.getProjectActivityData(owner, 1);
+
+        assertThat(result).extracting(ProjectDTO::getId).containsExactly(1L);
+        verify(projectRepository, never()).findAllByOwner(owner);
     }
 
     @Test
@@ -137,4 +173,114 @@ class StatisticsServiceImplTest {
 
         assertThat(average).isGreaterThan(0.0);
     }
+
+    @Test
+    @DisplayName("Should use rollup snapshot for average days when nothing changed since")
+    void shouldUseRollupSnapshotForAverageDays() {
+        LocalDate today = LocalDate.now();
+        DailyStatistics snapshot = DailyStatistics.builder()
+                .owner(owner)
+                .statDate(today.minusDays(1))
+                .totalProjects(2L)
+                .lastWorkedEpochDaySum(today.minusDays(5).toEpochDay() + today.minusDays(15).toEpochDay())
+                .computedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        when(dailyStatisticsRepository.findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(owner))
+                .thenReturn(Optional.of(snapshot));
+        when(projectRepository.existsByOwnerAndUpdatedAtAfter(owner, snapshot.getComputedAt())).thenReturn(false);
+        when(projectRepository.countByOwner(owner)).thenReturn(2L);
+
+        double average = statisticsService.getAverageDaysSinceLastWorked(owner);
+
+        assertThat(average).isEqualTo(10.0);
+        verify(projectRepository, never()).findAllByOwner(owner);
+    }
+
+    @Test
+    @DisplayName("Should ignore stale rollup snapshot for average days")
+    void shouldIgnoreStaleRollupSnapshot() {
+        DailyStatistics snapshot = DailyStatistics.builder()
+                .owner(owner)
+                .totalProjects(1L)
+                .lastWorkedEpochDaySum(0L)
+                .computedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        when(dailyStatisticsRepository.findFirstByOwnerAndTotalProjectsNotNullOrderByStatDateDesc(owner))
+                .thenReturn(Optional.of(snapshot));
+        when(projectRepository.existsByOwnerAndUpdatedAtAfter(owner, snapshot.getComputedAt())).thenReturn(true);
+        when(projectRepository.findAllByOwner(owner)).thenReturn(List.of(project1, project2));
+
+        double average = statisticsService.getAverageDaysSinceLastWorked(owner);
+
+        assertThat(average).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("Should combine rollup and live data for projects created by month")
+    void shouldCombineRollupAndLiveCreatedCounts() {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        when(rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID)).thenReturn(Optional.of(
+                StatisticsRollupState.builder().id(1).rolledUpThrough(yesterday).lastRunStartedAt(today.atStartOfDay()).build()));
+        when(dailyStatisticsRepository.findCreatedCounts(eq(owner), any(LocalDate.class), eq(yesterday)))
+                .thenReturn(List.<Object[]>of(new Object[]{yesterday, 3L}));
+        when(projectRepository.findCreatedDatesSince(owner, today.atStartOfDay()))
+                .thenReturn(List.of(LocalDateTime.now()));
+
+        Map<String, Long> months = statisticsService.getProjectsCreatedByMonth(owner);
+
+        assertThat(months).hasSize(6);
+        long expectedThisMonth = (yesterday.getMonth() == today.getMonth() ? 3L : 0L) + 1L;
+        assertThat(months.get(YearMonth.from(today).toString())).isEqualTo(expectedThisMonth);
+        assertThat(months.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(4L);
+        verify(projectRepository, never()).findAllByOwner(owner);
+    }
+
+    @Test
+    @DisplayName("Should zero-fill timeline buckets")
+    void shouldZeroFillTimelineBuckets() {
+        LocalDate from = LocalDate.of(2025, 11, 10);
+        LocalDate to = LocalDate.of(2026, 2, 5);
+        when(projectRepository.countPerBucket(owner, TimelineField.CREATED, TimeBucket.MONTH,
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+                .thenReturn(Map.of(LocalDate.of(2026, 1, 1), 4L));
+
+        TimelineDTO timeline = statisticsService.getProjectTimeline(owner, TimelineField.CREATED, from, to, TimeBucket.MONTH);
+
+        assertThat(timeline.getLabels()).containsExactly("2025-11", "2025-12", "2026-01", "2026-02");
+        assertThat(timeline.getData()).containsExactly(0L, 0L, 4L, 0L);
+    }
+
+    @Test
+    @DisplayName("Should take closed days of the created timeline from the rollup")
+    void shouldCombineRollupAndLiveTimeline() {
+        LocalDate from = LocalDate.of(2025, 11, 10);
+        LocalDate to = LocalDate.of(2026, 2, 5);
+        LocalDate rolledUpThrough = LocalDate.of(2026, 1, 20);
+        when(rollupStateRepository.findById(StatisticsRollupState.SINGLETON_ID)).thenReturn(Optional.of(
+                StatisticsRollupState.builder().id(1).rolledUpThrough(rolledUpThrough).build()));
+        when(dailyStatisticsRepository.findCreatedCounts(owner, from, rolledUpThrough))
+                .thenReturn(List.of(new Object[]{LocalDate.of(2025, 12, 3), 2L}, new Object[]{LocalDate.of(2026, 1, 4), 1L}));
+        when(projectRepository.countPerBucket(owner, TimelineField.CREATED, TimeBucket.MONTH,
+                rolledUpThrough.plusDays(1).atStartOfDay(), to.plusDays(1).atStartOfDay()))
+                .thenReturn(Map.of(LocalDate.of(2026, 1, 1), 3L));
+
+        TimelineDTO timeline = statisticsService.getProjectTimeline(owner, TimelineField.CREATED, from, to, TimeBucket.MONTH);
+
+        assertThat(timeline.getData()).containsExactly(0L, 2L, 4L, 0L);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted or oversized timeline ranges")
+    void shouldRejectInvalidTimelineRanges() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> statisticsService.getProjectTimeline(
+                owner, TimelineField.CREATED, today, today.minusDays(1), TimeBucket.DAY))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> statisticsService.getProjectTimeline(
+                owner, TimelineField.CREATED, today.minusYears(5), today, TimeBucket.DAY))
+                .isInstanceOf(InvalidOperationException.class);
+        verifyNoInteractions(projectRepository);
+    }
 }
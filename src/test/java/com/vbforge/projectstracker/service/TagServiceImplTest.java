@@ -3,6 +3,7 @@ package com.vbforge.projectstracker.service;
 import com.vbforge.projectstracker.entity.Role;
 import com.vbforge.projectstracker.entity.Tag;
 import com.vbforge.projectstracker.entity.User;
+import com.vbforge.projectstracker.exception.DuplicateResourceException;
 import com.vbforge.projectstracker.exception.ResourceNotFoundException;
 import com.vbforge.projectstracker.repository.TagRepository;
 import com.vbforge.projectstracker.service.impl.TagServiceImpl;
@@ -10,16 +11,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,18 @@ class TagServiceImplTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeOutbox changeOutbox;
+
+    @Mock
+    private SoftDeleteService softDeleteService;
+
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -203,27 +220,67 @@ class TagServiceImplTest {
     @DisplayName("Should delete tag successfully")
     void shouldDeleteTagSuccessfully() {
         // Given
-        when(tagRepository.findByIdAndOwner(1L, owner)).thenReturn(Optional.of(tag1));
+        when(tagRepository.findDeleteColumns(1L, owner))
+                .thenReturn(List.<Object[]>of(new Object[]{"Spring Boot", "#28a745"}));
+        when(tagRepository.softDelete(eq(1L), eq(owner), any())).thenReturn(1);
 
         // When
         tagService.deleteTag(1L, owner);
 
-        // Then
-        verify(tagRepository).findByIdAndOwner(1L, owner);
-        verify(tagRepository).delete(tag1);
+        // Then: soft delete, the tag and its projects are never loaded
+        verify(tagRepository, never()).findByIdAndOwner(any(), any());
+        verify(tagRepository, never()).delete(any());
+        verify(dataVersionService).bump(owner);
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent tag")
     void shouldThrowExceptionWhenDeletingNonExistentTag() {
         // Given
-        when(tagRepository.findByIdAndOwner(999L, owner)).thenReturn(Optional.empty());
+        when(tagRepository.findDeleteColumns(999L, owner)).thenReturn(List.of());
 
         // When/Then
         assertThatThrownBy(() -> tagService.deleteTag(999L, owner))
                 .isInstanceOf(ResourceNotFoundException.class);
 
-        verify(tagRepository, never()).delete(any());
+        verify(tagRepository, never()).softDelete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should rename an expired deleted tag holding the name of a new tag")
+    void shouldReleaseNameOfDeletedTag() {
+        // Given
+        Tag newTag = Tag.builder().name("Spring Boot").owner(owner).build();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(10);
+        when(softDeleteService.restorableSince()).thenReturn(since);
+        when(tagRepository.countRestorableByName("Spring Boot", owner.getId(), since)).thenReturn(0L);
+        when(tagRepository.save(newTag)).thenReturn(tag1);
+
+        // When
+        tagService.saveTag(newTag);
+
+        // Then
+        InOrder order = inOrder(tagRepository);
+        order.verify(tagRepository).renameExpired("Spring Boot", owner.getId(), since);
+        order.verify(tagRepository).save(newTag);
+    }
+
+    @Test
+    @DisplayName("Should reject the name of a deleted tag that can still be restored")
+    void shouldRejectNameOfRestorableTag() {
+        // Given
+        Tag newTag = Tag.builder().name("Spring Boot").owner(owner).build();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(10);
+        when(softDeleteService.restorableSince()).thenReturn(since);
+        when(tagRepository.countRestorableByName("Spring Boot", owner.getId(), since)).thenReturn(1L);
+
+        // When/Then
+        assertThatThrownBy(() -> tagService.saveTag(newTag))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("restore");
+
+        verify(tagRepository, never()).renameExpired(any(), any(), any());
+        verify(tagRepository, never()).save(any());
     }
 
     @Test
@@ -245,4 +245,18 @@ class UserServiceImplTest {
         assertThat(userService.existsByEmail("existing@example.com")).isTrue();
         assertThat(userService.existsByEmail("new@example.com")).isFalse();
     }
+
+    @Test
+    @DisplayName("Should check the password against the stored hash")
+    void shouldCheckPasswordAgainstStoredHash() {
+        // Given
+        User user = User.builder().id(1L).username("existing").password("encodedPassword").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.matches("wrong", "encodedPassword")).thenReturn(false);
+
+        // When/Then
+        assertThat(userService.passwordMatches(user, "password123")).isTrue();
+        assertThat(userService.passwordMatches(user, "wrong")).isFalse();
+    }
 }
@@ -0,0 +1,64 @@
+package com.vbforge.projectstracker.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter Tests")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    @DisplayName("Should allow a burst of capacity, then refill one token per interval")
+    void shouldAllowBurstThenRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(3), 1000);
+        long now = 10 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("key", now)).isZero();
+        }
+        assertThat(limiter.tryAcquire("key", now)).isEqualTo(Duration.ofSeconds(1));
+
+        // One token back after one interval, not more
+        assertThat(limiter.tryAcquire("key", now + SECOND)).isZero();
+        assertThat(limiter.tryAcquire("key", now + SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void shouldSeparateKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 1000);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isPositive();
+        assertThat(limiter.tryAcquire("b", 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not let an idle key save up more than capacity")
+    void shouldCapAtCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofSeconds(2), 1000);
+        limiter.tryAcquire("key", 0);
+
+        long later = 3600 * SECOND;
+        assertThat(limiter.tryAcquire("key", later)).isZero();
+        assertThat(limiter.tryAcquire("key", later)).isZero();
+        assertThat(limiter.tryAcquire("key", later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should stay within the key bound by dropping idle buckets")
+    void shouldBoundMemory() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, Duration.ofSeconds(5), 160);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i, i * SECOND);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(160);
+    }
+}